@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from 'react';
 import { Users, Building2, DollarSign, TrendingUp } from 'lucide-react';
-import { employeeAPI, departmentAPI } from '../services/api';
+import { employeeAPI } from '../services/api';
 import toast from 'react-hot-toast';
 import './Dashboard.css';
 
@@ -20,23 +20,15 @@ const Dashboard = () => {
   const fetchDashboardData = async () => {
     try {
       setLoading(true);
-      const [employees, departments, salaryStats] = await Promise.all([
-        employeeAPI.getAll(),
-        departmentAPI.getAll(),
+      const [summary, salaryStats] = await Promise.all([
+        employeeAPI.getSummary(),
         employeeAPI.getSalaryStats(),
       ]);
 
-      const totalSalary = employees.data.reduce(
-        (sum, emp) => sum + parseFloat(emp.salary),
-        0
-      );
-      const avgSalary =
-        employees.data.length > 0 ? totalSalary / employees.data.length : 0;
-
       setStats({
-        totalEmployees: employees.data.length,
-        totalDepartments: departments.data.length,
-        averageSalary: avgSalary,
+        totalEmployees: summary.data.headcount,
+        totalDepartments: summary.data.departments.length,
+        averageSalary: parseFloat(summary.data.averageSalary),
         salaryAdjustments: salaryStats.data?.totalAdjustments || 0,
       });
     } catch (error) {
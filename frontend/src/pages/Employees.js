@@ -12,6 +12,7 @@ const Employees = () => {
   const [showModal, setShowModal] = useState(false);
   const [editingEmployee, setEditingEmployee] = useState(null);
   const [searchTerm, setSearchTerm] = useState('');
+  const [searchResults, setSearchResults] = useState(null);
   const [formData, setFormData] = useState({
     name: '',
     email: '',
@@ -24,6 +25,26 @@ const Employees = () => {
     fetchData();
   }, []);
 
+  // Search runs on the server (prefix match on name, or email when the term has an @)
+  useEffect(() => {
+    const term = searchTerm.trim();
+    if (!term) {
+      setSearchResults(null);
+      return undefined;
+    }
+    const timer = setTimeout(async () => {
+      try {
+        const field = term.includes('@') ? 'email' : 'name';
+        const response = await employeeAPI.search({ [field]: term, limit: 100 });
+        setSearchResults(response.data.content);
+      } catch (error) {
+        console.error('Error searching employees:', error);
+        toast.error('Failed to search employees');
+      }
+    }, 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm, employees]);
+
   const fetchData = async () => {
     try {
       setLoading(true);
@@ -45,7 +66,12 @@ const Employees = () => {
     e.preventDefault();
     try {
       if (editingEmployee) {
-        await employeeAPI.update(editingEmployee.id, formData);
+        const changes = Object.fromEntries(
+          Object.entries(formData).filter(([field, value]) => String(value) !== String(editingEmployee[field]))
+        );
+        if (Object.keys(changes).length > 0) {
+          await employeeAPI.patch(editingEmployee.id, changes, editingEmployee.version);
+        }
         toast.success('Employee updated successfully');
       } else {
         await employeeAPI.create(formData);
@@ -57,7 +83,15 @@ const Employees = () => {
       fetchData();
     } catch (error) {
       console.error('Error saving employee:', error);
-      toast.error('Failed to save employee');
+      if (error.response?.status === 412 || error.response?.status === 409) {
+        toast.error('This employee was changed by someone else. The list has been reloaded, please edit again.');
+        setShowModal(false);
+        setEditingEmployee(null);
+        resetForm();
+        fetchData();
+      } else {
+        toast.error('Failed to save employee');
+      }
     }
   };
 
@@ -96,12 +130,7 @@ const Employees = () => {
     });
   };
 
-  const filteredEmployees = employees.filter(
-    (employee) =>
-      employee.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-      employee.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
-      employee.departmentName?.toLowerCase().includes(searchTerm.toLowerCase())
-  );
+  const filteredEmployees = searchResults ?? employees;
 
   const getDepartmentName = (departmentId) => {
     const dept = departments.find((d) => d.id === departmentId);
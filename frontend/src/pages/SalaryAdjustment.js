@@ -6,7 +6,7 @@ import './SalaryAdjustment.css';
 
 const SalaryAdjustment = () => {
   const [departments, setDepartments] = useState([]);
-  const [employees, setEmployees] = useState([]);
+  const [summary, setSummary] = useState({ headcount: 0, departments: [] });
   const [adjustmentHistory, setAdjustmentHistory] = useState([]);
   const [stats, setStats] = useState({});
   const [loading, setLoading] = useState(true);
@@ -22,16 +22,16 @@ const SalaryAdjustment = () => {
   const fetchData = async () => {
     try {
       setLoading(true);
-      const [departmentsRes, employeesRes, historyRes, statsRes] =
+      const [departmentsRes, summaryRes, historyRes, statsRes] =
         await Promise.all([
           departmentAPI.getAll(),
-          employeeAPI.getAll(),
+          employeeAPI.getSummary(),
           employeeAPI.getSalaryAdjustments(),
           employeeAPI.getSalaryStats(),
         ]);
       setDepartments(departmentsRes.data);
-      setEmployees(employeesRes.data);
-      setAdjustmentHistory(historyRes.data);
+      setSummary(summaryRes.data);
+      setAdjustmentHistory(historyRes.data.content);
       setStats(statsRes.data);
     } catch (error) {
       console.error('Error fetching data:', error);
@@ -71,8 +71,11 @@ const SalaryAdjustment = () => {
     return 0;
   };
 
-  const getEmployeesInDepartment = (departmentId) => {
-    return employees.filter((emp) => emp.departmentId === departmentId);
+  const getHeadcount = (departmentId) => {
+    const dept = summary.departments.find(
+      (d) => d.departmentId === departmentId
+    );
+    return dept ? dept.headcount : 0;
   };
 
   return (
@@ -108,7 +111,7 @@ const SalaryAdjustment = () => {
                     <option value="">Select Department</option>
                     {departments.map((dept) => (
                       <option key={dept.id} value={dept.id}>
-                        {dept.name} ({getEmployeesInDepartment(dept.id).length}{' '}
+                        {dept.name} ({getHeadcount(dept.id)}{' '}
                         employees)
                       </option>
                     ))}
@@ -181,7 +184,7 @@ const SalaryAdjustment = () => {
               </div>
               <div className="stat-content">
                 <h3>Total Employees</h3>
-                <p>{employees.length}</p>
+                <p>{summary.headcount}</p>
               </div>
             </div>
             <div className="stat-card">
@@ -230,8 +233,8 @@ const SalaryAdjustment = () => {
                     </tr>
                   </thead>
                   <tbody>
-                    {adjustmentHistory.map((adjustment, index) => (
-                      <tr key={index}>
+                    {adjustmentHistory.map((adjustment) => (
+                      <tr key={adjustment.id}>
                         <td>{getDepartmentName(adjustment.departmentId)}</td>
                         <td>{adjustment.performanceScore}</td>
                         <td>
@@ -249,7 +252,7 @@ const SalaryAdjustment = () => {
                         </td>
                         <td>{adjustment.employeesAffected || 'N/A'}</td>
                         <td>
-                          {new Date(adjustment.timestamp).toLocaleDateString()}
+                          {new Date(adjustment.createdAt).toLocaleDateString()}
                         </td>
                       </tr>
                     ))}
@@ -12,14 +12,28 @@ const api = axios.create({
 // Employee API calls
 export const employeeAPI = {
   getAll: () => api.get('/employees'),
+  getSummary: () => api.get('/employees/summary'),
+  search: (params) => api.get('/employees/search', { params }),
   getById: (id) => api.get(`/employees/${id}`),
   create: (data) => api.post('/employees', data),
-  update: (id, data) => api.put(`/employees/${id}`, data),
+  // Sends the version the form was loaded with, so a stale edit gets 412 instead of overwriting
+  update: (id, data, version) =>
+    api.put(`/employees/${id}`, data, version != null ? { headers: { 'If-Match': `"${version}"` } } : undefined),
+  // JSON Merge Patch: send only the changed fields
+  patch: (id, changes, version) =>
+    api.patch(`/employees/${id}`, changes, {
+      headers: {
+        'Content-Type': 'application/merge-patch+json',
+        ...(version != null ? { 'If-Match': `"${version}"` } : {}),
+      },
+    }),
   delete: (id) => api.delete(`/employees/${id}`),
   getByDepartment: (departmentId) =>
     api.get(`/employees/department/${departmentId}`),
   adjustSalary: (data) => api.post('/employees/adjust-salary', data),
-  getSalaryAdjustments: () => api.get('/employees/salary-adjustments'),
+  // Newest first, one keyset page at a time: { content, nextCursor, hasMore }
+  getSalaryAdjustments: (params) =>
+    api.get('/employees/salary-adjustments', { params }),
   getSalaryStats: () => api.get('/employees/salary-adjustments/stats'),
 };
 
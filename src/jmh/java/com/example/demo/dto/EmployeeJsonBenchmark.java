@@ -0,0 +1,61 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Serializing a List<EmployeeDto> response body, as GET /employees does, at typical list sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmployeeJsonBenchmark {
+    
+    @Param({ "50", "1000", "10000" })
+    private int rows;
+    
+    private List<EmployeeDto> employees;
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    
+    @Setup
+    public void setUp() {
+        // Same builder Spring Boot uses for its ObjectMapper (JSR-310 module, ISO dates)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, EmployeeDto.class));
+        
+        Random random = new Random(42);
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(new EmployeeDto((long) i, "Employee " + i, "employee" + i + "@example.com",
+                    BigDecimal.valueOf(3_000_000L + random.nextInt(50_000_000), 2),
+                    LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3650)), (long) random.nextInt(50), "Engineering"));
+        }
+    }
+    
+    @Benchmark
+    public byte[] writeValueAsBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+    
+    // Writer resolved once for the element type, as a controller with a fixed return type can
+    @Benchmark
+    public byte[] preparedWriter() throws IOException {
+        return listWriter.writeValueAsBytes(employees);
+    }
+} 
\ No newline at end of file
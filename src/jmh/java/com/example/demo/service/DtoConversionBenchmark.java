@@ -0,0 +1,55 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// EmployeeService's entity-to-DTO conversion over a list of the given size
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoConversionBenchmark {
+    
+    @Param({ "100", "1000", "10000" })
+    private int rows;
+    
+    // The conversions only read their arguments, so no Spring context is needed
+    private final EmployeeService employeeService = new EmployeeService();
+    private final DepartmentDto department = new DepartmentDto(1L, "Engineering", "ENG");
+    private List<Employee> employees;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Employee employee = new Employee("Employee " + i, "employee" + i + "@example.com",
+                    BigDecimal.valueOf(3_000_000L + random.nextInt(50_000_000), 2),
+                    LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3650)), null);
+            employee.setId((long) i);
+            employees.add(employee);
+        }
+    }
+    
+    @Benchmark
+    public void convertToDto(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employeeService.convertToDto(employee, department));
+        }
+    }
+} 
\ No newline at end of file
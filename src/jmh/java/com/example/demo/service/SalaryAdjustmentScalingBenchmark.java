@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.EmployeeSalarySnapshot;
+import com.example.demo.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Per-department adjustment cost. perEmployeePlan should scale linearly with departmentSize,
+// legacyTenureListScan (the old List.contains check) grows quadratically.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryAdjustmentScalingBenchmark {
+    
+    @Param({ "1000", "10000", "100000" })
+    private int departmentSize;
+    
+    private final LocalDate today = LocalDate.of(2026, 1, 1);
+    private List<EmployeeSalarySnapshot> snapshots;
+    private List<Employee> employees;
+    private List<Employee> employeesWithTenure;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        snapshots = new ArrayList<>(departmentSize);
+        employees = new ArrayList<>(departmentSize);
+        employeesWithTenure = new ArrayList<>();
+        LocalDate tenureCutoff = today.minusYears(5);
+        for (int i = 0; i < departmentSize; i++) {
+            BigDecimal salary = BigDecimal.valueOf(3_000_000L + random.nextInt(50_000_000), 2);
+            LocalDate joiningDate = today.minusDays(random.nextInt(3650));
+            snapshots.add(new EmployeeSalarySnapshot((long) i, "Employee " + i, salary, joiningDate, 0L));
+            
+            Employee employee = new Employee("Employee " + i, i + "@example.com", salary, joiningDate, null);
+            employees.add(employee);
+            if (!joiningDate.isAfter(tenureCutoff)) {
+                employeesWithTenure.add(employee);
+            }
+        }
+    }
+    
+    @Benchmark
+    public void perEmployeePlan(Blackhole blackhole) {
+        SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(95, today);
+        for (EmployeeSalarySnapshot employee : snapshots) {
+            blackhole.consume(plan.apply(employee.getSalary(), plan.hasTenure(employee.getJoiningDate())));
+        }
+    }
+    
+    @Benchmark
+    public void legacyTenureListScan(Blackhole blackhole) {
+        BigDecimal adjustmentPercentage = new BigDecimal("0.15");
+        for (Employee employee : employees) {
+            BigDecimal newSalary = employee.getSalary().add(employee.getSalary().multiply(adjustmentPercentage));
+            if (employeesWithTenure.contains(employee)) {
+                newSalary = newSalary.add(employee.getSalary().multiply(SalaryAdjustmentPlan.TENURE_BONUS_PERCENTAGE));
+            }
+            if (newSalary.compareTo(SalaryAdjustmentPlan.MAX_SALARY) > 0) {
+                newSalary = SalaryAdjustmentPlan.MAX_SALARY;
+            }
+            blackhole.consume(newSalary.setScale(2, RoundingMode.HALF_UP));
+        }
+    }
+} 
\ No newline at end of file
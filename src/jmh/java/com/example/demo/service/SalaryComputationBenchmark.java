@@ -0,0 +1,92 @@
+package com.example.demo.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Per-employee cost of the salary computation core, one call per invocation.
+// The salary parameter picks the plain path or the MAX_SALARY cap path.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SalaryComputationBenchmark {
+    
+    private static final BigDecimal COMBINED_MULTIPLIER = new BigDecimal("1.20");
+    
+    @Param({ "75000.00", "19500000.00" })
+    private String salary;
+    
+    private final LocalDate today = LocalDate.of(2026, 1, 1);
+    private final LocalDate tenuredJoiningDate = LocalDate.of(2015, 3, 1);
+    private final LocalDate recentJoiningDate = LocalDate.of(2024, 3, 1);
+    private BigDecimal currentSalary;
+    private long currentSalaryCents;
+    private SalaryAdjustmentPlan plan;
+    private int performanceScore;
+    
+    @Setup
+    public void setUp() {
+        currentSalary = new BigDecimal(salary);
+        currentSalaryCents = SalaryCents.toCents(currentSalary);
+        plan = SalaryAdjustmentPlan.forPerformanceScore(95, today);
+    }
+    
+    @Benchmark
+    public BigDecimal calculateAdjustmentPercentage() {
+        // Walks through all three score bands
+        performanceScore = (performanceScore + 7) % 101;
+        return SalaryAdjustmentPlan.calculateAdjustmentPercentage(performanceScore);
+    }
+    
+    @Benchmark
+    public SalaryAdjustmentPlan buildPlan() {
+        return SalaryAdjustmentPlan.forPerformanceScore(95, today);
+    }
+    
+    @Benchmark
+    public boolean tenureCheck() {
+        return plan.hasTenure(tenuredJoiningDate);
+    }
+    
+    @Benchmark
+    public BigDecimal applyWithoutTenure() {
+        return plan.apply(currentSalary, plan.hasTenure(recentJoiningDate));
+    }
+    
+    @Benchmark
+    public BigDecimal applyWithTenure() {
+        return plan.apply(currentSalary, plan.hasTenure(tenuredJoiningDate));
+    }
+    
+    // The pre-kernel BigDecimal computation, kept as the baseline for applyWithTenure
+    @Benchmark
+    public BigDecimal applyWithTenureBigDecimal() {
+        return plan.applyExact(currentSalary, plan.hasTenure(tenuredJoiningDate));
+    }
+    
+    // The long-cents kernel alone, without the BigDecimal conversions at the boundary
+    @Benchmark
+    public long applyCentsWithTenure() {
+        return plan.applyCents(currentSalaryCents, plan.hasTenure(tenuredJoiningDate));
+    }
+    
+    // Cap and rounding on their own, on an already adjusted value
+    @Benchmark
+    public BigDecimal capAndScale() {
+        BigDecimal adjusted = currentSalary.multiply(COMBINED_MULTIPLIER);
+        if (adjusted.compareTo(SalaryAdjustmentPlan.MAX_SALARY) > 0) {
+            adjusted = SalaryAdjustmentPlan.MAX_SALARY;
+        }
+        return adjusted.setScale(2, RoundingMode.HALF_UP);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class AsyncConfig {
+    
+    // Bounded pool and queue: when both are full, new jobs are rejected instead of piling up
+    @Bean
+    public ThreadPoolTaskExecutor salaryAdjustmentExecutor(
+            @Value("${app.salary-adjustment.async.pool-size:4}") int poolSize,
+            @Value("${app.salary-adjustment.async.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("salary-adjustment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+    
+    // Workers for batch adjustment runs. Each worker holds a connection for its department's transaction,
+    // so by default they take half the pool (which is sized from the core count) and leave the rest to
+    // request traffic. The queue is unbounded; batches are capped in size by the request DTO instead.
+    @Bean
+    public ThreadPoolTaskExecutor salaryAdjustmentBatchExecutor(
+            DataSource dataSource,
+            @Value("${app.salary-adjustment.batch.parallelism:0}") int parallelism) {
+        int workers = parallelism > 0 ? parallelism : batchParallelism(
+                dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : Runtime.getRuntime().availableProcessors());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("salary-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+    
+    static int batchParallelism(int maximumPoolSize) {
+        return Math.max(1, maximumPoolSize / 2);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class DataSourceConfig {
+    
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+    
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    
+    // Sizes the Hikari pool from the core count, (cores * per-core) + 1, unless maximum-pool-size is set explicitly.
+    // Static so it is registered before the DataSource bean is created.
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE)) {
+                    int perCore = environment.getProperty("app.datasource.connections-per-core", Integer.class, 2);
+                    int minimum = environment.getProperty("app.datasource.min-pool-size", Integer.class, 4);
+                    int poolSize = poolSize(Runtime.getRuntime().availableProcessors(), perCore, minimum);
+                    dataSource.setMaximumPoolSize(poolSize);
+                    logger.debug("Sized connection pool {} to {} connections", beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+    
+    static int poolSize(int cores, int connectionsPerCore, int minimum) {
+        return Math.max(cores * connectionsPerCore + 1, minimum);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Logs the effective pool and batching settings once the application is up, and warns about
+// anything that silently turns JDBC batching off.
+@Component
+public class PersistenceStartupReport {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PersistenceStartupReport.class);
+    
+    @Autowired
+    private DataSource dataSource;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        Map<String, Object> hibernate = entityManagerFactory.getProperties();
+        if (dataSource instanceof HikariDataSource hikari) {
+            logger.info("Connection pool {}: maximum {} connections, minimum idle {}, connection timeout {} ms ({} cores)",
+                    hikari.getPoolName(), hikari.getMaximumPoolSize(), hikari.getMinimumIdle(),
+                    hikari.getConnectionTimeout(), Runtime.getRuntime().availableProcessors());
+        }
+        logger.info("JDBC batching: batch_size={}, order_inserts={}, order_updates={}, reWriteBatchedInserts={}",
+                hibernate.get("hibernate.jdbc.batch_size"), hibernate.get("hibernate.order_inserts"),
+                hibernate.get("hibernate.order_updates"), rewriteBatchedInserts());
+        idGenerators().forEach((entity, generator) -> logger.info("Id generation for {}: {}", entity, generator));
+        validate().forEach(logger::warn);
+    }
+    
+    List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        int batchSize = intSetting("hibernate.jdbc.batch_size");
+        if (batchSize <= 1) {
+            problems.add("hibernate.jdbc.batch_size is " + batchSize + ", so every insert and update is a separate round trip");
+        }
+        if (!Boolean.parseBoolean(String.valueOf(entityManagerFactory.getProperties().get("hibernate.order_inserts")))) {
+            problems.add("hibernate.order_inserts is off, so inserts into different tables break up each batch");
+        }
+        if (isPostgres() && !"true".equals(rewriteBatchedInserts())) {
+            problems.add("reWriteBatchedInserts is not enabled on the PostgreSQL URL, so batched inserts are sent row by row");
+        }
+        sessionFactory().getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            Generator generator = persister.getGenerator();
+            if (generator != null && generator.generatedOnExecution()) {
+                problems.add(persister.getEntityName() + " ids are generated by the database on insert, which disables insert batching");
+            } else if (generator instanceof SequenceStyleGenerator sequence && batchSize > 1
+                    && sequence.getDatabaseStructure().getIncrementSize() < batchSize) {
+                problems.add(persister.getEntityName() + " sequence allocation size " + sequence.getDatabaseStructure().getIncrementSize()
+                        + " is below the batch size " + batchSize + ", so each batch costs extra sequence calls");
+            }
+        });
+        return problems;
+    }
+    
+    private Map<String, String> idGenerators() {
+        Map<String, String> generators = new TreeMap<>();
+        sessionFactory().getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            Generator generator = persister.getGenerator();
+            String description;
+            if (generator instanceof SequenceStyleGenerator sequence) {
+                description = "sequence " + sequence.getDatabaseStructure().getPhysicalName().render()
+                        + ", allocation size " + sequence.getDatabaseStructure().getIncrementSize();
+            } else {
+                description = generator == null ? "assigned" : generator.getClass().getSimpleName();
+            }
+            generators.put(persister.getEntityName(), description);
+        });
+        return generators;
+    }
+    
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+    
+    private int intSetting(String name) {
+        Object value = entityManagerFactory.getProperties().get(name);
+        return value == null ? 0 : Integer.parseInt(value.toString().trim());
+    }
+    
+    private boolean isPostgres() {
+        return dataSource instanceof HikariDataSource hikari
+                && hikari.getJdbcUrl() != null && hikari.getJdbcUrl().startsWith("jdbc:postgresql:");
+    }
+    
+    // Set either as a URL parameter or as a Hikari data source property
+    private String rewriteBatchedInserts() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return "n/a";
+        }
+        Object property = hikari.getDataSourceProperties().get("reWriteBatchedInserts");
+        if (property != null) {
+            return property.toString();
+        }
+        String url = hikari.getJdbcUrl();
+        int query = url == null ? -1 : url.indexOf('?');
+        if (query >= 0) {
+            for (String parameter : url.substring(query + 1).split("&")) {
+                if (parameter.startsWith("reWriteBatchedInserts=")) {
+                    return parameter.substring("reWriteBatchedInserts=".length());
+                }
+            }
+        }
+        return isPostgres() ? "false" : "n/a";
+    }
+} 
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.DepartmentPayrollDto;
 import com.example.demo.service.DepartmentService;
+import com.example.demo.service.SalaryHistoryService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/departments")
@@ -18,6 +23,9 @@ public class DepartmentController {
     @Autowired
     private DepartmentService departmentService;
     
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
     @PostMapping
     public ResponseEntity<DepartmentDto> createDepartment(@Valid @RequestBody DepartmentDto departmentDto) {
         DepartmentDto createdDepartment = departmentService.createDepartment(departmentDto);
@@ -36,6 +44,21 @@ public class DepartmentController {
         return ResponseEntity.ok(departments);
     }
     
+    // Headcount and payroll at the end of the given day, rebuilt from the salary ledger
+    @GetMapping("/{id}/payroll")
+    public ResponseEntity<DepartmentPayrollDto> getPayrollAsOf(@PathVariable Long id,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        departmentService.getDepartmentById(id);
+        DepartmentPayrollDto payroll = salaryHistoryService.getDepartmentPayrollAsOf(id, asOf);
+        return ResponseEntity.ok(payroll);
+    }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> stats = departmentService.getCacheStats();
+        return ResponseEntity.ok(stats);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<DepartmentDto> updateDepartment(@PathVariable Long id, 
                                                        @Valid @RequestBody DepartmentDto departmentDto) {
@@ -1,35 +1,99 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BulkImportResultDto;
 import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSearchCriteria;
+import com.example.demo.dto.EmployeeSummaryDto;
+import com.example.demo.dto.KeysetPageDto;
+import com.example.demo.dto.SalaryAdjustmentBatchDto;
+import com.example.demo.dto.SalaryAdjustmentBatchResultDto;
 import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentJobDto;
+import com.example.demo.dto.SalaryAdjustmentPreviewDto;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
+import com.example.demo.dto.SalaryHistoryEntryDto;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.service.EmployeeImportService;
 import com.example.demo.service.EmployeeService;
+import com.example.demo.service.SalaryAdjustmentBatchService;
+import com.example.demo.service.SalaryAdjustmentJobService;
+import com.example.demo.service.SalaryAdjustmentPreviewService;
+import com.example.demo.service.SalaryHistoryService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @RestController
 @RequestMapping("/employees")
 @CrossOrigin(origins = "*")
 public class EmployeeController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+    
     @Autowired
     private EmployeeService employeeService;
     
+    @Autowired
+    private SalaryAdjustmentJobService salaryAdjustmentJobService;
+    
+    @Autowired
+    private SalaryAdjustmentPreviewService salaryAdjustmentPreviewService;
+    
+    @Autowired
+    private SalaryAdjustmentBatchService salaryAdjustmentBatchService;
+    
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
+    @Autowired
+    private EmployeeImportService employeeImportService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping
     public ResponseEntity<EmployeeDto> createEmployee(@Valid @RequestBody EmployeeDto employeeDto) {
         EmployeeDto createdEmployee = employeeService.createEmployee(employeeDto);
         return new ResponseEntity<>(createdEmployee, HttpStatus.CREATED);
     }
     
+    // Streams a JSON array or CSV body; rows that fail are reported without aborting the import
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDto> importEmployeesJson(InputStream body) throws IOException {
+        BulkImportResultDto result = employeeImportService.importJson(body);
+        return ResponseEntity.ok(result);
+    }
+    
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResultDto> importEmployeesCsv(InputStream body) throws IOException {
+        BulkImportResultDto result = employeeImportService.importCsv(body);
+        return ResponseEntity.ok(result);
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id) {
         EmployeeDto employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employee);
+        return ResponseEntity.ok().eTag(eTag(employee)).body(employee);
     }
     
     @GetMapping
@@ -38,17 +102,93 @@ public class EmployeeController {
         return ResponseEntity.ok(employees);
     }
     
+    // Headcount and payroll figures for the dashboard, aggregated in the database
+    @GetMapping("/summary")
+    public ResponseEntity<EmployeeSummaryDto> getEmployeeSummary() {
+        EmployeeSummaryDto summary = employeeService.getEmployeeSummary();
+        return ResponseEntity.ok(summary);
+    }
+    
+    @GetMapping(params = "limit")
+    public ResponseEntity<KeysetPageDto<EmployeeDto>> getEmployeesPage(@RequestParam(required = false) Long after,
+                                                                      @RequestParam int limit) {
+        KeysetPageDto<EmployeeDto> page = employeeService.getEmployeesPage(after, limit);
+        return ResponseEntity.ok(page);
+    }
+    
+    // Prefix matching on name and email, exact department, inclusive salary and joining-date ranges.
+    // Prefix searches page in name (or email) order, everything else in id order.
+    @GetMapping("/search")
+    public ResponseEntity<KeysetPageDto<EmployeeDto>> searchEmployees(EmployeeSearchCriteria criteria,
+                                                                     @RequestParam(required = false) String after,
+                                                                     @RequestParam(defaultValue = "50") int limit) {
+        KeysetPageDto<EmployeeDto> page = employeeService.searchEmployees(criteria, after, limit);
+        return ResponseEntity.ok(page);
+    }
+    
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        StreamingResponseBody body = out -> writeNdjson(out, employeeService::streamAllEmployees);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+    
     @GetMapping("/department/{departmentId}")
     public ResponseEntity<List<EmployeeDto>> getEmployeesByDepartment(@PathVariable Long departmentId) {
         List<EmployeeDto> employees = employeeService.getEmployeesByDepartment(departmentId);
         return ResponseEntity.ok(employees);
     }
     
+    @GetMapping(value = "/department/{departmentId}", params = "limit")
+    public ResponseEntity<KeysetPageDto<EmployeeDto>> getEmployeesByDepartmentPage(@PathVariable Long departmentId,
+                                                                                  @RequestParam(required = false) Long after,
+                                                                                  @RequestParam int limit) {
+        KeysetPageDto<EmployeeDto> page = employeeService.getEmployeesByDepartmentPage(departmentId, after, limit);
+        return ResponseEntity.ok(page);
+    }
+    
+    @GetMapping(value = "/department/{departmentId}", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamEmployeesByDepartment(@PathVariable Long departmentId) {
+        // Resolve the 404 before the response is committed
+        employeeService.verifyDepartmentExists(departmentId);
+        StreamingResponseBody body = out -> writeNdjson(out,
+                consumer -> employeeService.streamEmployeesByDepartment(departmentId, consumer));
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+    
+    // Every recorded salary and department change, oldest first; kept after the employee is deleted
+    @GetMapping("/{id}/salary-history")
+    public ResponseEntity<List<SalaryHistoryEntryDto>> getSalaryHistory(@PathVariable Long id) {
+        List<SalaryHistoryEntryDto> history = salaryHistoryService.getHistory(id);
+        return ResponseEntity.ok(history);
+    }
+    
+    // The entry in force at the end of the given day
+    @GetMapping(value = "/{id}/salary-history", params = "asOf")
+    public ResponseEntity<SalaryHistoryEntryDto> getSalaryAsOf(@PathVariable Long id,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        SalaryHistoryEntryDto entry = salaryHistoryService.getEntryAsOf(id, asOf)
+                .orElseThrow(() -> new ResourceNotFoundException("Salary history", "employee id", id + " as of " + asOf));
+        return ResponseEntity.ok(entry);
+    }
+    
+    // If-Match carries the ETag from GET /employees/{id}; without it the version in the body is checked
+    // when present. A stale version is rejected with 412 instead of overwriting the newer row.
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, 
-                                                   @Valid @RequestBody EmployeeDto employeeDto) {
-        EmployeeDto updatedEmployee = employeeService.updateEmployee(id, employeeDto);
-        return ResponseEntity.ok(updatedEmployee);
+                                                   @Valid @RequestBody EmployeeDto employeeDto,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null ? parseIfMatch(ifMatch) : employeeDto.getVersion();
+        EmployeeDto updatedEmployee = employeeService.updateEmployee(id, employeeDto, expectedVersion);
+        return ResponseEntity.ok().eTag(eTag(updatedEmployee)).body(updatedEmployee);
+    }
+    
+    // JSON Merge Patch: only the fields in the body change. If-Match works as for PUT.
+    @PatchMapping(value = "/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<EmployeeDto> patchEmployee(@PathVariable Long id, @RequestBody JsonNode patch,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = ifMatch != null ? parseIfMatch(ifMatch) : null;
+        EmployeeDto patchedEmployee = employeeService.patchEmployee(id, patch, expectedVersion);
+        return ResponseEntity.ok().eTag(eTag(patchedEmployee)).body(patchedEmployee);
     }
     
     @DeleteMapping("/{id}")
@@ -63,10 +203,44 @@ public class EmployeeController {
         return ResponseEntity.ok("Salary adjustment completed successfully");
     }
     
+    // One adjustment per department, run in parallel; every department reports its own outcome
+    @PostMapping("/adjust-salary/batch")
+    public ResponseEntity<SalaryAdjustmentBatchResultDto> adjustSalaryBatch(@Valid @RequestBody SalaryAdjustmentBatchDto batchDto) {
+        SalaryAdjustmentBatchResultDto result = salaryAdjustmentBatchService.run(batchDto.getAdjustments());
+        return ResponseEntity.ok(result);
+    }
+    
+    // What adjust-salary would do, computed without writing. Pass limit (and after) for a page of per-employee results.
+    @PostMapping("/adjust-salary/preview")
+    public ResponseEntity<SalaryAdjustmentPreviewDto> previewSalaryAdjustment(@Valid @RequestBody SalaryAdjustmentDto adjustmentDto,
+                                                                              @RequestParam(required = false) Long after,
+                                                                              @RequestParam(required = false) Integer limit) {
+        SalaryAdjustmentPreviewDto preview = salaryAdjustmentPreviewService.preview(adjustmentDto, after, limit);
+        return ResponseEntity.ok(preview);
+    }
+    
+    // Runs the adjustment in the background; poll the returned job for progress
+    @PostMapping("/adjust-salary/jobs")
+    public ResponseEntity<SalaryAdjustmentJobDto> submitSalaryAdjustmentJob(@Valid @RequestBody SalaryAdjustmentDto adjustmentDto) {
+        SalaryAdjustmentJobDto job = salaryAdjustmentJobService.submit(adjustmentDto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/employees/adjust-salary/jobs/" + job.getId()))
+                .body(job);
+    }
+    
+    @GetMapping("/adjust-salary/jobs/{jobId}")
+    public ResponseEntity<SalaryAdjustmentJobDto> getSalaryAdjustmentJob(@PathVariable String jobId) {
+        SalaryAdjustmentJobDto job = salaryAdjustmentJobService.getJob(jobId);
+        return ResponseEntity.ok(job);
+    }
+    
+    // Newest first, filtered by department, inclusive score range and createdAt in [from, to)
     @GetMapping("/salary-adjustments")
-    public ResponseEntity<List<SalaryAdjustmentDto>> getSalaryAdjustmentHistory() {
-        List<SalaryAdjustmentDto> adjustments = employeeService.getSalaryAdjustmentHistory();
-        return ResponseEntity.ok(adjustments);
+    public ResponseEntity<KeysetPageDto<SalaryAdjustmentDto>> getSalaryAdjustmentHistory(SalaryAdjustmentSearchCriteria criteria,
+                                                                                        @RequestParam(required = false) String after,
+                                                                                        @RequestParam(defaultValue = "50") int limit) {
+        KeysetPageDto<SalaryAdjustmentDto> page = employeeService.getSalaryAdjustmentHistory(criteria, after, limit);
+        return ResponseEntity.ok(page);
     }
     
     @GetMapping("/salary-adjustments/stats")
@@ -74,4 +248,42 @@ public class EmployeeController {
         Map<String, Object> stats = employeeService.getSalaryAdjustmentStats();
         return ResponseEntity.ok(stats);
     }
+    
+    // Writes one JSON document per line, flushing as rows arrive from the database cursor
+    private void writeNdjson(OutputStream out, Consumer<Consumer<EmployeeDto>> source) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(EmployeeDto.class);
+        try {
+            source.accept(employee -> {
+                try {
+                    out.write(writer.writeValueAsBytes(employee));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+    
+    private static String eTag(EmployeeDto employee) {
+        return "\"" + employee.getVersion() + "\"";
+    }
+    
+    // "*" matches any version; anything that is not one of our quoted version ETags can never match
+    private static Long parseIfMatch(String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.length() > 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            try {
+                return Long.valueOf(value.substring(1, value.length() - 1));
+            } catch (NumberFormatException e) {
+                return -1L;
+            }
+        }
+        return -1L;
+    }
 } 
\ No newline at end of file
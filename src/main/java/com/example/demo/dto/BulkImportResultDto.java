@@ -0,0 +1,102 @@
+package com.example.demo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkImportResultDto {
+    
+    private int totalRows;
+    private int importedRows;
+    private int failedRows;
+    private List<RowError> errors = new ArrayList<>();
+    
+    // Default constructor
+    public BulkImportResultDto() {}
+    
+    public void addImported(int rows) {
+        totalRows += rows;
+        importedRows += rows;
+    }
+    
+    public void addError(int row, String email, String message) {
+        totalRows++;
+        failedRows++;
+        errors.add(new RowError(row, email, message));
+    }
+    
+    // Getters and Setters
+    public int getTotalRows() {
+        return totalRows;
+    }
+    
+    public void setTotalRows(int totalRows) {
+        this.totalRows = totalRows;
+    }
+    
+    public int getImportedRows() {
+        return importedRows;
+    }
+    
+    public void setImportedRows(int importedRows) {
+        this.importedRows = importedRows;
+    }
+    
+    public int getFailedRows() {
+        return failedRows;
+    }
+    
+    public void setFailedRows(int failedRows) {
+        this.failedRows = failedRows;
+    }
+    
+    public List<RowError> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+    
+    public static class RowError {
+        
+        // 1-based position of the row in the uploaded array or CSV body (header excluded)
+        private int row;
+        private String email;
+        private String message;
+        
+        // Default constructor
+        public RowError() {}
+        
+        // Constructor with fields
+        public RowError(int row, String email, String message) {
+            this.row = row;
+            this.email = email;
+            this.message = message;
+        }
+        
+        // Getters and Setters
+        public int getRow() {
+            return row;
+        }
+        
+        public void setRow(int row) {
+            this.row = row;
+        }
+        
+        public String getEmail() {
+            return email;
+        }
+        
+        public void setEmail(String email) {
+            this.email = email;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.demo.dto;
+
+public class DepartmentAdjustmentResultDto {
+    
+    private Long departmentId;
+    private Integer performanceScore;
+    private String outcome;
+    private int adjustedEmployees;
+    private String message;
+    private long elapsedMillis;
+    
+    // Default constructor
+    public DepartmentAdjustmentResultDto() {}
+    
+    // Constructor with fields
+    public DepartmentAdjustmentResultDto(Long departmentId, Integer performanceScore, String outcome,
+                                         int adjustedEmployees, String message, long elapsedMillis) {
+        this.departmentId = departmentId;
+        this.performanceScore = performanceScore;
+        this.outcome = outcome;
+        this.adjustedEmployees = adjustedEmployees;
+        this.message = message;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    // Getters and Setters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public Integer getPerformanceScore() {
+        return performanceScore;
+    }
+    
+    public void setPerformanceScore(Integer performanceScore) {
+        this.performanceScore = performanceScore;
+    }
+    
+    public String getOutcome() {
+        return outcome;
+    }
+    
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+    
+    public int getAdjustedEmployees() {
+        return adjustedEmployees;
+    }
+    
+    public void setAdjustedEmployees(int adjustedEmployees) {
+        this.adjustedEmployees = adjustedEmployees;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class DepartmentPayrollDto {
+    
+    private final Long departmentId;
+    private final LocalDate asOf;
+    private final long headcount;
+    private final BigDecimal totalSalary;
+    
+    // SUM over no rows yields null
+    public DepartmentPayrollDto(Long departmentId, LocalDate asOf, long headcount, BigDecimal totalSalary) {
+        this.departmentId = departmentId;
+        this.asOf = asOf;
+        this.headcount = headcount;
+        this.totalSalary = totalSalary != null ? totalSalary : BigDecimal.ZERO;
+    }
+    
+    // Getters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+    
+    public long getHeadcount() {
+        return headcount;
+    }
+    
+    public BigDecimal getTotalSalary() {
+        return totalSalary;
+    }
+    
+    public BigDecimal getAverageSalary() {
+        return DepartmentSalarySummaryDto.average(totalSalary, headcount);
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class DepartmentSalarySummaryDto {
+    
+    private Long departmentId;
+    private String departmentName;
+    private long headcount;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    // Default constructor
+    public DepartmentSalarySummaryDto() {}
+    
+    // Constructor used by the grouped JPQL query; departments without employees have null aggregates
+    public DepartmentSalarySummaryDto(Long departmentId, String departmentName, Long headcount,
+                                      BigDecimal totalSalary, BigDecimal minSalary, BigDecimal maxSalary) {
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.headcount = headcount != null ? headcount : 0;
+        this.totalSalary = totalSalary != null ? totalSalary : BigDecimal.ZERO;
+        this.averageSalary = average(this.totalSalary, this.headcount);
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+    
+    static BigDecimal average(BigDecimal total, long headcount) {
+        return headcount > 0 ? total.divide(BigDecimal.valueOf(headcount), 2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+    
+    // Getters and Setters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public String getDepartmentName() {
+        return departmentName;
+    }
+    
+    public void setDepartmentName(String departmentName) {
+        this.departmentName = departmentName;
+    }
+    
+    public long getHeadcount() {
+        return headcount;
+    }
+    
+    public void setHeadcount(long headcount) {
+        this.headcount = headcount;
+    }
+    
+    public BigDecimal getTotalSalary() {
+        return totalSalary;
+    }
+    
+    public void setTotalSalary(BigDecimal totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+    
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+    
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+} 
\ No newline at end of file
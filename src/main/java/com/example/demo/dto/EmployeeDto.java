@@ -28,6 +28,9 @@ public class EmployeeDto {
     
     private String departmentName;
     
+    // Optimistic lock version, also sent as the ETag of GET/PUT /employees/{id}
+    private Long version;
+    
     // Default constructor
     public EmployeeDto() {}
     
@@ -42,6 +45,18 @@ public class EmployeeDto {
         this.departmentName = departmentName;
     }
     
+    // Constructor for projections that carry the version
+    public EmployeeDto(Long id, String name, String email, BigDecimal salary, LocalDate joiningDate, Long departmentId,
+                       String departmentName, Long version) {
+        this(id, name, email, salary, joiningDate, departmentId, departmentName);
+        this.version = version;
+    }
+    
+    // Constructor for single-table projections; the department name is filled in afterwards
+    public EmployeeDto(Long id, String name, String email, BigDecimal salary, LocalDate joiningDate, Long departmentId) {
+        this(id, name, email, salary, joiningDate, departmentId, null);
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -98,4 +113,12 @@ public class EmployeeDto {
     public void setDepartmentName(String departmentName) {
         this.departmentName = departmentName;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class EmployeeSalarySnapshot {
+    
+    private final Long id;
+    private final String name;
+    private final BigDecimal salary;
+    private final LocalDate joiningDate;
+    private final Long version;
+    
+    // Constructor used by the JPQL constructor expression
+    public EmployeeSalarySnapshot(Long id, String name, BigDecimal salary, LocalDate joiningDate, Long version) {
+        this.id = id;
+        this.name = name;
+        this.salary = salary;
+        this.joiningDate = joiningDate;
+        this.version = version;
+    }
+    
+    // Getters
+    public Long getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+    
+    public LocalDate getJoiningDate() {
+        return joiningDate;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.demo.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Optional filters for GET /employees/search; unset fields do not constrain the result
+public class EmployeeSearchCriteria {
+    
+    private String name;
+    private String email;
+    private Long departmentId;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedFrom;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedTo;
+    
+    // Default constructor
+    public EmployeeSearchCriteria() {}
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+    
+    public LocalDate getJoinedFrom() {
+        return joinedFrom;
+    }
+    
+    public void setJoinedFrom(LocalDate joinedFrom) {
+        this.joinedFrom = joinedFrom;
+    }
+    
+    public LocalDate getJoinedTo() {
+        return joinedTo;
+    }
+    
+    public void setJoinedTo(LocalDate joinedTo) {
+        this.joinedTo = joinedTo;
+    }
+} 
\ No newline at end of file
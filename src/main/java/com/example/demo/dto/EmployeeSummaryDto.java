@@ -0,0 +1,85 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class EmployeeSummaryDto {
+    
+    private long headcount;
+    private BigDecimal totalSalary = BigDecimal.ZERO;
+    private BigDecimal averageSalary = BigDecimal.ZERO;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private List<DepartmentSalarySummaryDto> departments;
+    
+    // Default constructor
+    public EmployeeSummaryDto() {}
+    
+    // Rolls the per-department rows up into the company-wide figures
+    public EmployeeSummaryDto(List<DepartmentSalarySummaryDto> departments) {
+        this.departments = departments;
+        for (DepartmentSalarySummaryDto department : departments) {
+            if (department.getHeadcount() == 0) {
+                continue;
+            }
+            headcount += department.getHeadcount();
+            totalSalary = totalSalary.add(department.getTotalSalary());
+            if (minSalary == null || department.getMinSalary().compareTo(minSalary) < 0) {
+                minSalary = department.getMinSalary();
+            }
+            if (maxSalary == null || department.getMaxSalary().compareTo(maxSalary) > 0) {
+                maxSalary = department.getMaxSalary();
+            }
+        }
+        this.averageSalary = DepartmentSalarySummaryDto.average(totalSalary, headcount);
+    }
+    
+    // Getters and Setters
+    public long getHeadcount() {
+        return headcount;
+    }
+    
+    public void setHeadcount(long headcount) {
+        this.headcount = headcount;
+    }
+    
+    public BigDecimal getTotalSalary() {
+        return totalSalary;
+    }
+    
+    public void setTotalSalary(BigDecimal totalSalary) {
+        this.totalSalary = totalSalary;
+    }
+    
+    public BigDecimal getAverageSalary() {
+        return averageSalary;
+    }
+    
+    public void setAverageSalary(BigDecimal averageSalary) {
+        this.averageSalary = averageSalary;
+    }
+    
+    public BigDecimal getMinSalary() {
+        return minSalary;
+    }
+    
+    public void setMinSalary(BigDecimal minSalary) {
+        this.minSalary = minSalary;
+    }
+    
+    public BigDecimal getMaxSalary() {
+        return maxSalary;
+    }
+    
+    public void setMaxSalary(BigDecimal maxSalary) {
+        this.maxSalary = maxSalary;
+    }
+    
+    public List<DepartmentSalarySummaryDto> getDepartments() {
+        return departments;
+    }
+    
+    public void setDepartments(List<DepartmentSalarySummaryDto> departments) {
+        this.departments = departments;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+public class KeysetPageDto<T> {
+    
+    private List<T> content;
+    
+    private int limit;
+    
+    // Opaque cursor for the next page, null when this is the last page
+    private String nextCursor;
+    
+    // Default constructor
+    public KeysetPageDto() {}
+    
+    // Constructor with fields
+    public KeysetPageDto(List<T> content, int limit, String nextCursor) {
+        this.content = content;
+        this.limit = limit;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+    
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+} 
\ No newline at end of file
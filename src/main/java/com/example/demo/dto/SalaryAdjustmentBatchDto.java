@@ -0,0 +1,31 @@
+package com.example.demo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class SalaryAdjustmentBatchDto {
+    
+    @NotEmpty(message = "At least one adjustment is required")
+    @Size(max = 1000, message = "At most 1000 adjustments can be submitted at once")
+    private List<@Valid SalaryAdjustmentDto> adjustments;
+    
+    // Default constructor
+    public SalaryAdjustmentBatchDto() {}
+    
+    // Constructor with fields
+    public SalaryAdjustmentBatchDto(List<SalaryAdjustmentDto> adjustments) {
+        this.adjustments = adjustments;
+    }
+    
+    // Getters and Setters
+    public List<SalaryAdjustmentDto> getAdjustments() {
+        return adjustments;
+    }
+    
+    public void setAdjustments(List<SalaryAdjustmentDto> adjustments) {
+        this.adjustments = adjustments;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SalaryAdjustmentBatchResultDto {
+    
+    // In request order
+    private List<DepartmentAdjustmentResultDto> results;
+    // Number of departments per outcome
+    private Map<String, Long> outcomes;
+    private long adjustedEmployees;
+    private int parallelism;
+    private long elapsedMillis;
+    
+    // Default constructor
+    public SalaryAdjustmentBatchResultDto() {}
+    
+    // Constructor with fields
+    public SalaryAdjustmentBatchResultDto(List<DepartmentAdjustmentResultDto> results, Map<String, Long> outcomes,
+                                          long adjustedEmployees, int parallelism, long elapsedMillis) {
+        this.results = results;
+        this.outcomes = outcomes;
+        this.adjustedEmployees = adjustedEmployees;
+        this.parallelism = parallelism;
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    // Getters and Setters
+    public List<DepartmentAdjustmentResultDto> getResults() {
+        return results;
+    }
+    
+    public void setResults(List<DepartmentAdjustmentResultDto> results) {
+        this.results = results;
+    }
+    
+    public Map<String, Long> getOutcomes() {
+        return outcomes;
+    }
+    
+    public void setOutcomes(Map<String, Long> outcomes) {
+        this.outcomes = outcomes;
+    }
+    
+    public long getAdjustedEmployees() {
+        return adjustedEmployees;
+    }
+    
+    public void setAdjustedEmployees(long adjustedEmployees) {
+        this.adjustedEmployees = adjustedEmployees;
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+} 
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.demo.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 
+import java.time.LocalDateTime;
+
 public class SalaryAdjustmentDto {
     
     @NotNull(message = "Department ID is required")
@@ -12,6 +15,16 @@ public class SalaryAdjustmentDto {
     @Max(value = 100, message = "Performance score must be at most 100")
     private Integer performanceScore;
     
+    // Set on adjustments read back from the history; ignored in requests
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long id;
+    
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime adjustmentDate;
+    
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+    
     // Default constructor
     public SalaryAdjustmentDto() {}
     
@@ -21,7 +34,25 @@ public class SalaryAdjustmentDto {
         this.performanceScore = performanceScore;
     }
     
+    // Constructor used by the adjustment history query
+    public SalaryAdjustmentDto(Long id, Long departmentId, Integer performanceScore,
+                               LocalDateTime adjustmentDate, LocalDateTime createdAt) {
+        this.id = id;
+        this.departmentId = departmentId;
+        this.performanceScore = performanceScore;
+        this.adjustmentDate = adjustmentDate;
+        this.createdAt = createdAt;
+    }
+    
     // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
     public Long getDepartmentId() {
         return departmentId;
     }
@@ -37,4 +68,20 @@ public class SalaryAdjustmentDto {
     public void setPerformanceScore(Integer performanceScore) {
         this.performanceScore = performanceScore;
     }
+    
+    public LocalDateTime getAdjustmentDate() {
+        return adjustmentDate;
+    }
+    
+    public void setAdjustmentDate(LocalDateTime adjustmentDate) {
+        this.adjustmentDate = adjustmentDate;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
 } 
\ No newline at end of file
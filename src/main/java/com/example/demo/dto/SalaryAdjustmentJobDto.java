@@ -0,0 +1,117 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+
+public class SalaryAdjustmentJobDto {
+    
+    private String id;
+    private Long departmentId;
+    private Integer performanceScore;
+    private String status;
+    private int processedEmployees;
+    private int totalEmployees;
+    private String message;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    
+    // Default constructor
+    public SalaryAdjustmentJobDto() {}
+    
+    // Constructor with fields
+    public SalaryAdjustmentJobDto(String id, Long departmentId, Integer performanceScore, String status,
+                                  int processedEmployees, int totalEmployees, String message,
+                                  LocalDateTime submittedAt, LocalDateTime startedAt, LocalDateTime finishedAt) {
+        this.id = id;
+        this.departmentId = departmentId;
+        this.performanceScore = performanceScore;
+        this.status = status;
+        this.processedEmployees = processedEmployees;
+        this.totalEmployees = totalEmployees;
+        this.message = message;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public Integer getPerformanceScore() {
+        return performanceScore;
+    }
+    
+    public void setPerformanceScore(Integer performanceScore) {
+        this.performanceScore = performanceScore;
+    }
+    
+    public String getStatus() {
+        return status;
+    }
+    
+    public void setStatus(String status) {
+        this.status = status;
+    }
+    
+    public int getProcessedEmployees() {
+        return processedEmployees;
+    }
+    
+    public void setProcessedEmployees(int processedEmployees) {
+        this.processedEmployees = processedEmployees;
+    }
+    
+    public int getTotalEmployees() {
+        return totalEmployees;
+    }
+    
+    public void setTotalEmployees(int totalEmployees) {
+        this.totalEmployees = totalEmployees;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+    
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+    
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+    
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+} 
\ No newline at end of file
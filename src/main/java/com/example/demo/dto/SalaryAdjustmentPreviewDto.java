@@ -0,0 +1,80 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+
+public class SalaryAdjustmentPreviewDto {
+    
+    private final Long departmentId;
+    private final Integer performanceScore;
+    private final BigDecimal adjustmentPercentage;
+    private final long headcount;
+    private final long withTenureBonus;
+    private final long capped;
+    private final BigDecimal currentPayroll;
+    private final BigDecimal adjustedPayroll;
+    // True when adjust-salary would reject the same request as a duplicate right now
+    private final boolean duplicate;
+    // Only present when the request asked for a page of per-employee results
+    private final KeysetPageDto<SalaryAdjustmentPreviewLineDto> breakdown;
+    
+    public SalaryAdjustmentPreviewDto(Long departmentId, Integer performanceScore, BigDecimal adjustmentPercentage,
+                                      long headcount, long withTenureBonus, long capped,
+                                      BigDecimal currentPayroll, BigDecimal adjustedPayroll, boolean duplicate,
+                                      KeysetPageDto<SalaryAdjustmentPreviewLineDto> breakdown) {
+        this.departmentId = departmentId;
+        this.performanceScore = performanceScore;
+        this.adjustmentPercentage = adjustmentPercentage;
+        this.headcount = headcount;
+        this.withTenureBonus = withTenureBonus;
+        this.capped = capped;
+        this.currentPayroll = currentPayroll;
+        this.adjustedPayroll = adjustedPayroll;
+        this.duplicate = duplicate;
+        this.breakdown = breakdown;
+    }
+    
+    // Getters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public Integer getPerformanceScore() {
+        return performanceScore;
+    }
+    
+    public BigDecimal getAdjustmentPercentage() {
+        return adjustmentPercentage;
+    }
+    
+    public long getHeadcount() {
+        return headcount;
+    }
+    
+    public long getWithTenureBonus() {
+        return withTenureBonus;
+    }
+    
+    public long getCapped() {
+        return capped;
+    }
+    
+    public BigDecimal getCurrentPayroll() {
+        return currentPayroll;
+    }
+    
+    public BigDecimal getAdjustedPayroll() {
+        return adjustedPayroll;
+    }
+    
+    public BigDecimal getPayrollDelta() {
+        return adjustedPayroll.subtract(currentPayroll);
+    }
+    
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+    
+    public KeysetPageDto<SalaryAdjustmentPreviewLineDto> getBreakdown() {
+        return breakdown;
+    }
+} 
\ No newline at end of file
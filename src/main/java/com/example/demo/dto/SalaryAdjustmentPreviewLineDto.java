@@ -0,0 +1,48 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+
+public class SalaryAdjustmentPreviewLineDto {
+    
+    private final Long employeeId;
+    private final String name;
+    private final BigDecimal currentSalary;
+    private final BigDecimal newSalary;
+    private final boolean tenureBonus;
+    private final boolean capped;
+    
+    public SalaryAdjustmentPreviewLineDto(Long employeeId, String name, BigDecimal currentSalary, BigDecimal newSalary,
+                                          boolean tenureBonus, boolean capped) {
+        this.employeeId = employeeId;
+        this.name = name;
+        this.currentSalary = currentSalary;
+        this.newSalary = newSalary;
+        this.tenureBonus = tenureBonus;
+        this.capped = capped;
+    }
+    
+    // Getters
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public BigDecimal getCurrentSalary() {
+        return currentSalary;
+    }
+    
+    public BigDecimal getNewSalary() {
+        return newSalary;
+    }
+    
+    public boolean isTenureBonus() {
+        return tenureBonus;
+    }
+    
+    public boolean isCapped() {
+        return capped;
+    }
+} 
\ No newline at end of file
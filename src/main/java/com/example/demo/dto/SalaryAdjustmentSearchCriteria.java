@@ -0,0 +1,65 @@
+package com.example.demo.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Optional filters for GET /employees/salary-adjustments; unset fields do not constrain the result
+public class SalaryAdjustmentSearchCriteria {
+    
+    private Long departmentId;
+    private Integer minScore;
+    private Integer maxScore;
+    
+    // Inclusive lower bound on createdAt
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    
+    // Exclusive upper bound on createdAt
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    
+    // Default constructor
+    public SalaryAdjustmentSearchCriteria() {}
+    
+    // Getters and Setters
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public void setDepartmentId(Long departmentId) {
+        this.departmentId = departmentId;
+    }
+    
+    public Integer getMinScore() {
+        return minScore;
+    }
+    
+    public void setMinScore(Integer minScore) {
+        this.minScore = minScore;
+    }
+    
+    public Integer getMaxScore() {
+        return maxScore;
+    }
+    
+    public void setMaxScore(Integer maxScore) {
+        this.maxScore = maxScore;
+    }
+    
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.demo.dto;
+
+public class SalaryAdjustmentTotals {
+    
+    private final long count;
+    private final long scoreSum;
+    private final long highPerformance;
+    private final long mediumPerformance;
+    private final long lowPerformance;
+    
+    // SUM over an empty table yields null
+    public SalaryAdjustmentTotals(Long count, Long scoreSum, Long highPerformance, Long mediumPerformance, Long lowPerformance) {
+        this.count = count != null ? count : 0;
+        this.scoreSum = scoreSum != null ? scoreSum : 0;
+        this.highPerformance = highPerformance != null ? highPerformance : 0;
+        this.mediumPerformance = mediumPerformance != null ? mediumPerformance : 0;
+        this.lowPerformance = lowPerformance != null ? lowPerformance : 0;
+    }
+    
+    // Getters
+    public long getCount() {
+        return count;
+    }
+    
+    public long getScoreSum() {
+        return scoreSum;
+    }
+    
+    public long getHighPerformance() {
+        return highPerformance;
+    }
+    
+    public long getMediumPerformance() {
+        return mediumPerformance;
+    }
+    
+    public long getLowPerformance() {
+        return lowPerformance;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.demo.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class SalaryHistoryEntryDto {
+    
+    private final Long employeeId;
+    private final Long departmentId;
+    private final BigDecimal salary;
+    private final String changeType;
+    private final LocalDateTime effectiveFrom;
+    
+    public SalaryHistoryEntryDto(Long employeeId, Long departmentId, BigDecimal salary, String changeType,
+                                 LocalDateTime effectiveFrom) {
+        this.employeeId = employeeId;
+        this.departmentId = departmentId;
+        this.salary = salary;
+        this.changeType = changeType;
+        this.effectiveFrom = effectiveFrom;
+    }
+    
+    // Getters
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+    
+    public String getChangeType() {
+        return changeType;
+    }
+    
+    public LocalDateTime getEffectiveFrom() {
+        return effectiveFrom;
+    }
+} 
\ No newline at end of file
@@ -11,7 +11,8 @@ import java.util.List;
 public class Department {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Department name is required")
@@ -2,16 +2,22 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+// Indexes are created by the Flyway migrations under db/migration.
+// Dynamic updates write only the changed columns, so a rename does not rewrite salary or department.
 @Entity
 @Table(name = "employees")
+@DynamicUpdate
 public class Employee {
     
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     private Long id;
     
     @NotBlank(message = "Employee name is required")
@@ -37,6 +43,11 @@ public class Employee {
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
     
+    // Optimistic lock: bumped on every update, see EmployeeService.updateEmployee and SalaryAdjustmentEngine
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     // Default constructor
     public Employee() {}
     
@@ -97,4 +108,12 @@ public class Employee {
     public void setDepartment(Department department) {
         this.department = department;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 } 
\ No newline at end of file
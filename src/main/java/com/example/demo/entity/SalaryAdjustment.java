@@ -3,12 +3,14 @@ package com.example.demo.entity;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+// Indexes are created by the Flyway migrations under db/migration
 @Entity
 @Table(name = "salary_adjustments")
 public class SalaryAdjustment {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "salary_adjustments_seq")
+    @SequenceGenerator(name = "salary_adjustments_seq", sequenceName = "salary_adjustments_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "department_id", nullable = false)
@@ -1,6 +1,11 @@
 package com.example.demo.exception;
 
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -13,25 +18,53 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    // Error bodies are always JSON, even when the client asked for a streamed format
+    private static final HttpHeaders JSON_HEADERS = jsonHeaders();
+    
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Map<String, String>> handleResourceNotFoundException(ResourceNotFoundException ex) {
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.NOT_FOUND);
     }
     
     @ExceptionHandler(DuplicateAdjustmentException.class)
     public ResponseEntity<Map<String, String>> handleDuplicateAdjustmentException(DuplicateAdjustmentException ex) {
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.CONFLICT);
+    }
+    
+    // If-Match (or the version in the body) no longer matches: the client must reload first
+    @ExceptionHandler(VersionMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleVersionMismatchException(VersionMismatchException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        HttpHeaders headers = new HttpHeaders(JSON_HEADERS);
+        headers.setETag("\"" + ex.getCurrentVersion() + "\"");
+        return new ResponseEntity<>(errorResponse, headers, HttpStatus.PRECONDITION_FAILED);
+    }
+    
+    // A concurrent writer committed between our read and our write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "The resource was modified concurrently, please reload it and retry");
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.CONFLICT);
     }
     
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.BAD_REQUEST);
+    }
+    
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleTaskRejectedException(TaskRejectedException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", "Too many salary adjustment jobs are queued, please retry later");
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.SERVICE_UNAVAILABLE);
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -42,13 +75,28 @@ public class GlobalExceptionHandler {
             String errorMessage = error.getDefaultMessage();
             errors.put(fieldName, errorMessage);
         });
-        return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(errors, JSON_HEADERS, HttpStatus.BAD_REQUEST);
+    }
+    
+    // Bean validation outside of @Valid, e.g. on a merged PATCH document; same shape as above
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<Map<String, String>> handleConstraintViolationException(ConstraintViolationException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getConstraintViolations().forEach(violation ->
+                errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        return new ResponseEntity<>(errors, JSON_HEADERS, HttpStatus.BAD_REQUEST);
     }
     
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception ex) {
         Map<String, String> errorResponse = new HashMap<>();
         errorResponse.put("error", "An unexpected error occurred: " + ex.getMessage());
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return new ResponseEntity<>(errorResponse, JSON_HEADERS, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+    
+    private static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+public class VersionMismatchException extends RuntimeException {
+    
+    private final Long currentVersion;
+    
+    public VersionMismatchException(String resourceName, Object id, Long expectedVersion, Long currentVersion) {
+        super(String.format("%s with id '%s' is at version %d, not %d; reload it and retry", resourceName, id,
+                currentVersion, expectedVersion));
+        this.currentVersion = currentVersion;
+    }
+    
+    public Long getCurrentVersion() {
+        return currentVersion;
+    }
+} 
\ No newline at end of file
@@ -1,7 +1,11 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Department;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +16,9 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByCode(String code);
     
     boolean existsByCode(String code);
+    
+    // Row lock held until the surrounding transaction ends; serializes work per department across instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Department d WHERE d.id = :id")
+    Optional<Department> findByIdForUpdate(@Param("id") Long id);
 } 
\ No newline at end of file
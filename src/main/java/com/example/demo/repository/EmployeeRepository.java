@@ -1,22 +1,88 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.DepartmentSalarySummaryDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSalarySnapshot;
 import com.example.demo.entity.Employee;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeSearchRepository {
+    
+    String EMPLOYEE_DTO_SELECT = "SELECT new com.example.demo.dto.EmployeeDto(e.id, e.name, e.email, e.salary, " +
+            "e.joiningDate, d.id, d.name, e.version) FROM Employee e JOIN e.department d ";
+    
+    String STREAM_FETCH_SIZE = "500";
     
     List<Employee> findByDepartmentId(Long departmentId);
     
     boolean existsByEmail(String email);
     
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     @Query("SELECT e FROM Employee e WHERE e.department.id = :departmentId AND e.joiningDate <= :fiveYearsAgo")
     List<Employee> findEmployeesInDepartmentWithTenure(@Param("departmentId") Long departmentId, 
                                                       @Param("fiveYearsAgo") LocalDate fiveYearsAgo);
+    
+    @Query("SELECT new com.example.demo.dto.EmployeeSalarySnapshot(e.id, e.name, e.salary, e.joiningDate, e.version) " +
+           "FROM Employee e WHERE e.department.id = :departmentId ORDER BY e.id")
+    List<EmployeeSalarySnapshot> findSalarySnapshotsByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    // Read-only pass over the same projection for the adjustment preview
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.demo.dto.EmployeeSalarySnapshot(e.id, e.name, e.salary, e.joiningDate, e.version) " +
+           "FROM Employee e WHERE e.department.id = :departmentId ORDER BY e.id")
+    Stream<EmployeeSalarySnapshot> streamSalarySnapshotsByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    // Re-read after a version conflict; rows that moved to another department are left out
+    @Query("SELECT new com.example.demo.dto.EmployeeSalarySnapshot(e.id, e.name, e.salary, e.joiningDate, e.version) " +
+           "FROM Employee e WHERE e.department.id = :departmentId AND e.id IN :ids ORDER BY e.id")
+    List<EmployeeSalarySnapshot> findSalarySnapshotsByDepartmentIdAndIds(@Param("departmentId") Long departmentId,
+                                                                         @Param("ids") Collection<Long> ids);
+    
+    // Payroll figures per department in one grouped scan; empty departments are kept via the outer join
+    @Query("SELECT new com.example.demo.dto.DepartmentSalarySummaryDto(d.id, d.name, COUNT(e.id), SUM(e.salary), MIN(e.salary), MAX(e.salary)) " +
+           "FROM Department d LEFT JOIN d.employees e GROUP BY d.id, d.name ORDER BY d.id")
+    List<DepartmentSalarySummaryDto> summarizeSalariesByDepartment();
+    
+    // Read paths project straight into EmployeeDto so the department name comes from the same query
+    @Query(EMPLOYEE_DTO_SELECT + "WHERE e.id = :id")
+    Optional<EmployeeDto> findDtoById(@Param("id") Long id);
+    
+    @Query(EMPLOYEE_DTO_SELECT + "ORDER BY e.id")
+    List<EmployeeDto> findAllDtos();
+    
+    @Query(EMPLOYEE_DTO_SELECT + "WHERE d.id = :departmentId ORDER BY e.id")
+    List<EmployeeDto> findDtosByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    // Keyset pagination: callers pass the last id they have seen
+    @Query(EMPLOYEE_DTO_SELECT + "WHERE e.id > :after ORDER BY e.id")
+    List<EmployeeDto> findDtoPageAfter(@Param("after") Long after, Limit limit);
+    
+    @Query(EMPLOYEE_DTO_SELECT + "WHERE d.id = :departmentId AND e.id > :after ORDER BY e.id")
+    List<EmployeeDto> findDtoPageByDepartmentAfter(@Param("departmentId") Long departmentId,
+                                                   @Param("after") Long after, Limit limit);
+    
+    // Streams must be consumed inside a transaction and closed by the caller
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(EMPLOYEE_DTO_SELECT + "ORDER BY e.id")
+    Stream<EmployeeDto> streamAllDtos();
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(EMPLOYEE_DTO_SELECT + "WHERE d.id = :departmentId ORDER BY e.id")
+    Stream<EmployeeDto> streamDtosByDepartmentId(@Param("departmentId") Long departmentId);
 } 
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSearchCriteria;
+
+import java.util.function.Function;
+
+// Sort key for a search. With a prefix filter the results are ordered by the filtered column, so one
+// index serves the LIKE range, the ORDER BY and the cursor bound, and the database stops after one page
+// however many rows share the prefix: (name, id) for NAME, the unique email index for EMAIL. On
+// PostgreSQL both columns use the C collation (V8) so LIKE and the ordering agree. Otherwise by id.
+public enum EmployeeSearchOrder {
+    
+    NAME("e.name", false, EmployeeDto::getName),
+    EMAIL("e.email", true, EmployeeDto::getEmail),
+    ID(null, true, employee -> null);
+    
+    private final String path;
+    private final boolean unique;
+    private final Function<EmployeeDto, String> key;
+    
+    EmployeeSearchOrder(String path, boolean unique, Function<EmployeeDto, String> key) {
+        this.path = path;
+        this.unique = unique;
+        this.key = key;
+    }
+    
+    public static EmployeeSearchOrder forCriteria(EmployeeSearchCriteria criteria) {
+        if (hasText(criteria.getName())) {
+            return NAME;
+        }
+        if (hasText(criteria.getEmail())) {
+            return EMAIL;
+        }
+        return ID;
+    }
+    
+    static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+    
+    // JPQL path of the leading sort column, null when ordering by id alone
+    String getPath() {
+        return path;
+    }
+    
+    // A unique sort key needs no id tie-breaker, which keeps the sort fully covered by its index
+    boolean isUnique() {
+        return unique;
+    }
+    
+    public String keyOf(EmployeeDto employee) {
+        return key.apply(employee);
+    }
+} 
\ No newline at end of file
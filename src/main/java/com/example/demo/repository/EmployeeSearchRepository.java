@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSearchCriteria;
+
+import java.util.List;
+
+// Custom fragment of EmployeeRepository for queries whose WHERE clause depends on the request
+public interface EmployeeSearchRepository {
+    
+    // afterKey and afterId are the sort key and id of the last row of the previous page, both null for the first page
+    List<EmployeeDto> searchDtos(EmployeeSearchCriteria criteria, EmployeeSearchOrder order,
+                                 String afterKey, Long afterId, int maxResults);
+} 
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSearchCriteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.demo.repository.EmployeeSearchOrder.hasText;
+
+public class EmployeeSearchRepositoryImpl implements EmployeeSearchRepository {
+    
+    private static final char LIKE_ESCAPE = '!';
+    
+    // No join: with one table the planner cannot pick the wrong driving side, and the service
+    // takes department names from the department cache
+    private static final String SEARCH_SELECT = "SELECT new com.example.demo.dto.EmployeeDto(e.id, e.name, e.email, " +
+            "e.salary, e.joiningDate, e.department.id, CAST(NULL AS String), e.version) FROM Employee e ";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // Only the supplied filters become predicates, so each combination gets a plan that can use
+    // the name, email or (department_id, joining_date) index
+    @Override
+    public List<EmployeeDto> searchDtos(EmployeeSearchCriteria criteria, EmployeeSearchOrder order,
+                                        String afterKey, Long afterId, int maxResults) {
+        StringBuilder jpql = new StringBuilder(SEARCH_SELECT).append("WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        
+        if (hasText(criteria.getName())) {
+            jpql.append(" AND e.name LIKE :name ESCAPE '").append(LIKE_ESCAPE).append("'");
+            parameters.put("name", prefixPattern(criteria.getName()));
+        }
+        if (hasText(criteria.getEmail())) {
+            jpql.append(" AND e.email LIKE :email ESCAPE '").append(LIKE_ESCAPE).append("'");
+            parameters.put("email", prefixPattern(criteria.getEmail()));
+        }
+        if (criteria.getDepartmentId() != null) {
+            jpql.append(" AND e.department.id = :departmentId");
+            parameters.put("departmentId", criteria.getDepartmentId());
+        }
+        if (criteria.getJoinedFrom() != null) {
+            jpql.append(" AND e.joiningDate >= :joinedFrom");
+            parameters.put("joinedFrom", criteria.getJoinedFrom());
+        }
+        if (criteria.getJoinedTo() != null) {
+            jpql.append(" AND e.joiningDate <= :joinedTo");
+            parameters.put("joinedTo", criteria.getJoinedTo());
+        }
+        if (criteria.getMinSalary() != null) {
+            jpql.append(" AND e.salary >= :minSalary");
+            parameters.put("minSalary", criteria.getMinSalary());
+        }
+        if (criteria.getMaxSalary() != null) {
+            jpql.append(" AND e.salary <= :maxSalary");
+            parameters.put("maxSalary", criteria.getMaxSalary());
+        }
+        
+        // The first page has no key range at all; an open range on the primary key would tempt
+        // the planner into walking the whole table instead of the filter's index
+        String path = order.getPath();
+        if (afterId != null) {
+            if (path == null) {
+                jpql.append(" AND e.id > :afterId");
+                parameters.put("afterId", afterId);
+            } else if (order.isUnique()) {
+                jpql.append(" AND ").append(path).append(" > :afterKey");
+                parameters.put("afterKey", afterKey);
+            } else {
+                // Spelled out rather than as a row value so the leading bound stays indexable
+                jpql.append(" AND ").append(path).append(" >= :afterKey AND (")
+                        .append(path).append(" > :afterKey OR e.id > :afterId)");
+                parameters.put("afterKey", afterKey);
+                parameters.put("afterId", afterId);
+            }
+        }
+        if (path == null) {
+            jpql.append(" ORDER BY e.id");
+        } else {
+            jpql.append(" ORDER BY ").append(path).append(order.isUnique() ? "" : ", e.id");
+        }
+        
+        TypedQuery<EmployeeDto> query = entityManager.createQuery(jpql.toString(), EmployeeDto.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(maxResults).getResultList();
+    }
+    
+    // Wildcards typed by the user are matched literally; only the trailing % is ours
+    private static String prefixPattern(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (char c : prefix.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+} 
\ No newline at end of file
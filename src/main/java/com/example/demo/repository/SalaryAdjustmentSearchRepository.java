@@ -0,0 +1,15 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Custom fragment of SalaryAdjustmentRepository for the filtered history pages
+public interface SalaryAdjustmentSearchRepository {
+    
+    // Newest first. afterCreatedAt and afterId are the last row of the previous page, both null for the first page.
+    List<SalaryAdjustmentDto> findHistoryPage(SalaryAdjustmentSearchCriteria criteria,
+                                              LocalDateTime afterCreatedAt, Long afterId, int maxResults);
+} 
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SalaryAdjustmentSearchRepositoryImpl implements SalaryAdjustmentSearchRepository {
+    
+    private static final String HISTORY_SELECT = "SELECT new com.example.demo.dto.SalaryAdjustmentDto(sa.id, " +
+            "sa.departmentId, sa.performanceScore, sa.adjustmentDate, sa.createdAt) FROM SalaryAdjustment sa ";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // Pages walk (created_at DESC, id DESC), or (department_id, created_at DESC, id DESC) when a department
+    // is given, so each page is an index range read of at most maxResults matching rows
+    @Override
+    public List<SalaryAdjustmentDto> findHistoryPage(SalaryAdjustmentSearchCriteria criteria,
+                                                     LocalDateTime afterCreatedAt, Long afterId, int maxResults) {
+        StringBuilder jpql = new StringBuilder(HISTORY_SELECT).append("WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        
+        if (criteria.getDepartmentId() != null) {
+            jpql.append(" AND sa.departmentId = :departmentId");
+            parameters.put("departmentId", criteria.getDepartmentId());
+        }
+        if (criteria.getMinScore() != null) {
+            jpql.append(" AND sa.performanceScore >= :minScore");
+            parameters.put("minScore", criteria.getMinScore());
+        }
+        if (criteria.getMaxScore() != null) {
+            jpql.append(" AND sa.performanceScore <= :maxScore");
+            parameters.put("maxScore", criteria.getMaxScore());
+        }
+        if (criteria.getFrom() != null) {
+            jpql.append(" AND sa.createdAt >= :from");
+            parameters.put("from", criteria.getFrom());
+        }
+        if (criteria.getTo() != null) {
+            jpql.append(" AND sa.createdAt < :to");
+            parameters.put("to", criteria.getTo());
+        }
+        if (afterId != null) {
+            // Spelled out rather than as a row value so the leading bound stays indexable
+            jpql.append(" AND sa.createdAt <= :afterCreatedAt AND (sa.createdAt < :afterCreatedAt OR sa.id < :afterId)");
+            parameters.put("afterCreatedAt", afterCreatedAt);
+            parameters.put("afterId", afterId);
+        }
+        // The department is constant here, but leading with it lets H2 read the index in order as PostgreSQL does
+        jpql.append(criteria.getDepartmentId() != null ? " ORDER BY sa.departmentId, " : " ORDER BY ")
+                .append("sa.createdAt DESC, sa.id DESC");
+        
+        TypedQuery<SalaryAdjustmentDto> query = entityManager.createQuery(jpql.toString(), SalaryAdjustmentDto.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(maxResults).getResultList();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.SalaryAdjustmentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Duplicate guard for salary adjustments. Recently applied (department, score) pairs are kept
+// in memory until their window expires; anything not found there is checked against the
+// database, which stays the source of truth across restarts and instances.
+@Component
+public class AdjustmentIdempotencyGuard {
+    
+    private static final int PURGE_INTERVAL = 256;
+    
+    @Autowired
+    private SalaryAdjustmentRepository salaryAdjustmentRepository;
+    
+    @Value("${app.salary-adjustment.duplicate-window:30m}")
+    private Duration window;
+    
+    private final Map<AdjustmentKey, LocalDateTime> recentAdjustments = new ConcurrentHashMap<>();
+    private final AtomicInteger recordsSincePurge = new AtomicInteger();
+    
+    public boolean isDuplicate(Long departmentId, Integer performanceScore) {
+        LocalDateTime now = LocalDateTime.now();
+        AdjustmentKey key = new AdjustmentKey(departmentId, performanceScore);
+        
+        LocalDateTime expiresAt = recentAdjustments.get(key);
+        if (expiresAt != null) {
+            if (expiresAt.isAfter(now)) {
+                return true;
+            }
+            recentAdjustments.remove(key, expiresAt);
+        }
+        
+        // Served by the (department_id, performance_score, created_at) index
+        return salaryAdjustmentRepository.existsByDepartmentIdAndPerformanceScoreAndCreatedAtAfter(
+                departmentId, performanceScore, now.minus(window));
+    }
+    
+    // Remembers the adjustment once the inserting transaction commits
+    public void record(Long departmentId, Integer performanceScore, LocalDateTime createdAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(departmentId, performanceScore, createdAt);
+                }
+            });
+        } else {
+            remember(departmentId, performanceScore, createdAt);
+        }
+    }
+    
+    public Duration getWindow() {
+        return window;
+    }
+    
+    private void remember(Long departmentId, Integer performanceScore, LocalDateTime createdAt) {
+        recentAdjustments.merge(new AdjustmentKey(departmentId, performanceScore), createdAt.plus(window),
+                (existing, added) -> existing.isAfter(added) ? existing : added);
+        
+        if (recordsSincePurge.incrementAndGet() >= PURGE_INTERVAL) {
+            recordsSincePurge.set(0);
+            LocalDateTime now = LocalDateTime.now();
+            recentAdjustments.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        }
+    }
+    
+    private record AdjustmentKey(Long departmentId, Integer performanceScore) {
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.entity.Department;
+import com.example.demo.repository.DepartmentRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// In-process read-through cache for departments. The table changes a few times a month,
+// so every write simply invalidates everything; reads are served from a bounded LRU map.
+@Component
+public class DepartmentCache implements MeterBinder {
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    private final int maxSize;
+    
+    // Access-ordered map, guarded by "this"
+    private final LinkedHashMap<Long, DepartmentDto> byId;
+    private final Map<String, Long> idByCode = new HashMap<>();
+    private List<DepartmentDto> allDepartments;
+    
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private long generation;
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    
+    public DepartmentCache(@Value("${app.department-cache.max-size:1000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DepartmentDto> eldest) {
+                if (size() > DepartmentCache.this.maxSize) {
+                    idByCode.remove(eldest.getValue().getCode());
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    public Optional<DepartmentDto> get(Long id) {
+        long loadGeneration;
+        synchronized (this) {
+            DepartmentDto cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(copy(cached));
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+        
+        Optional<DepartmentDto> loaded = departmentRepository.findById(id).map(this::toDto);
+        loaded.ifPresent(department -> {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    put(department);
+                }
+            }
+        });
+        return loaded.map(this::copy);
+    }
+    
+    public boolean exists(Long id) {
+        return get(id).isPresent();
+    }
+    
+    // Only positive lookups are cached, a miss always falls through to the database
+    public boolean existsByCode(String code) {
+        synchronized (this) {
+            Long id = idByCode.get(code);
+            if (id != null && byId.containsKey(id)) {
+                hits.increment();
+                return true;
+            }
+            misses.increment();
+        }
+        return departmentRepository.existsByCode(code);
+    }
+    
+    public List<DepartmentDto> getAll() {
+        long loadGeneration;
+        synchronized (this) {
+            if (allDepartments != null) {
+                hits.increment();
+                return allDepartments.stream().map(this::copy).collect(Collectors.toList());
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+        
+        List<DepartmentDto> loaded = departmentRepository.findAll().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                allDepartments = List.copyOf(loaded);
+                loaded.forEach(this::put);
+            }
+        }
+        return loaded.stream().map(this::copy).collect(Collectors.toList());
+    }
+    
+    // Called by every department write. The second pass after the surrounding transaction
+    // completes drops anything read from uncommitted state in the meantime.
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+    
+    public synchronized Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", byId.size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", lookups == 0 ? 0.0 : (double) hitCount / lookups);
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+    
+    // Same figures as getStats(), as meters; the Prometheus registry reads them on scrape
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("department.cache.size", this, DepartmentCache::size).register(registry);
+        FunctionCounter.builder("department.cache.requests", hits, LongAdder::sum).tag("result", "hit").register(registry);
+        FunctionCounter.builder("department.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(registry);
+        FunctionCounter.builder("department.cache.evictions", evictions, LongAdder::sum).register(registry);
+        FunctionCounter.builder("department.cache.invalidations", invalidations, LongAdder::sum).register(registry);
+    }
+    
+    private synchronized int size() {
+        return byId.size();
+    }
+    
+    private synchronized void clear() {
+        generation++;
+        byId.clear();
+        idByCode.clear();
+        allDepartments = null;
+        invalidations.increment();
+    }
+    
+    // Caller must hold the lock
+    private void put(DepartmentDto department) {
+        byId.put(department.getId(), department);
+        idByCode.put(department.getCode(), department.getId());
+    }
+    
+    private DepartmentDto toDto(Department department) {
+        return new DepartmentDto(department.getId(), department.getName(), department.getCode());
+    }
+    
+    private DepartmentDto copy(DepartmentDto department) {
+        return new DepartmentDto(department.getId(), department.getName(), department.getCode());
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Striped in-process locks keyed by department id. Work for one department is serialized
+// while different departments (almost always on different stripes) run in parallel.
+@Component
+public class DepartmentLocks {
+    
+    private final ReentrantLock[] stripes;
+    
+    public DepartmentLocks(@Value("${app.salary-adjustment.lock-stripes:64}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("Lock stripe count must be at least 1");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+    
+    public Lock lockFor(Long departmentId) {
+        return stripes[Math.floorMod(Long.hashCode(departmentId), stripes.length)];
+    }
+} 
\ No newline at end of file
@@ -6,9 +6,10 @@ import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.repository.DepartmentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class DepartmentService {
@@ -16,9 +17,15 @@ public class DepartmentService {
     @Autowired
     private DepartmentRepository departmentRepository;
     
+    @Autowired
+    private DepartmentCache departmentCache;
+    
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
     public DepartmentDto createDepartment(DepartmentDto departmentDto) {
         // Check if department with same code already exists
-        if (departmentRepository.existsByCode(departmentDto.getCode())) {
+        if (departmentCache.existsByCode(departmentDto.getCode())) {
             throw new IllegalArgumentException("Department with code " + departmentDto.getCode() + " already exists");
         }
         
@@ -27,19 +34,17 @@ public class DepartmentService {
         department.setCode(departmentDto.getCode());
         
         Department savedDepartment = departmentRepository.save(department);
+        departmentCache.invalidateAll();
         return convertToDto(savedDepartment);
     }
     
     public DepartmentDto getDepartmentById(Long id) {
-        Department department = departmentRepository.findById(id)
+        return departmentCache.get(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department", "id", id));
-        return convertToDto(department);
     }
     
     public List<DepartmentDto> getAllDepartments() {
-        return departmentRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return departmentCache.getAll();
     }
     
     public DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto) {
@@ -50,14 +55,23 @@ public class DepartmentService {
         department.setCode(departmentDto.getCode());
         
         Department updatedDepartment = departmentRepository.save(department);
+        departmentCache.invalidateAll();
         return convertToDto(updatedDepartment);
     }
     
+    // Employees are removed with the department, so the ledger records their terminations first
+    @Transactional
     public void deleteDepartment(Long id) {
         if (!departmentRepository.existsById(id)) {
             throw new ResourceNotFoundException("Department", "id", id);
         }
+        salaryHistoryService.recordDepartmentTerminations(id);
         departmentRepository.deleteById(id);
+        departmentCache.invalidateAll();
+    }
+    
+    public Map<String, Object> getCacheStats() {
+        return departmentCache.getStats();
     }
     
     private DepartmentDto convertToDto(Department department) {
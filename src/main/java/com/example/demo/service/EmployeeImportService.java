@@ -0,0 +1,289 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.BulkImportResultDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.entity.Employee;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Bulk employee import. Rows are read from the request body as they arrive and handled in
+// chunks: one email query per chunk, one department lookup per distinct id, and a single
+// batched flush per chunk in its own transaction, so one bad chunk never loses the others.
+@Service
+public class EmployeeImportService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+    private static final List<String> CSV_COLUMNS = List.of("name", "email", "salary", "joiningDate", "departmentId");
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private DepartmentRepository departmentRepository;
+    
+    @Autowired
+    private DepartmentCache departmentCache;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${app.employee-import.batch-size:500}")
+    private int batchSize;
+    
+    public BulkImportResultDto importJson(InputStream body) throws IOException {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array of employees");
+            }
+            // An empty array has no rows for the iterator to start on
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return run.finish();
+            }
+            MappingIterator<EmployeeDto> rows = objectMapper.readerFor(EmployeeDto.class).readValues(parser);
+            int rowNumber = 0;
+            while (true) {
+                rowNumber++;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    run.accept(rowNumber, rows.nextValue());
+                } catch (JsonProcessingException e) {
+                    // Databind wraps read errors hit while binding a row, so the cause counts too
+                    JsonParseException broken = e instanceof JsonParseException parseError ? parseError
+                            : e.getCause() instanceof JsonParseException causeError ? causeError : null;
+                    if (broken != null) {
+                        // Broken JSON (a truncated body, stray text between elements) has no next element
+                        // to skip to: report it once and keep the rows read so far
+                        run.reject(rowNumber, null, "Malformed JSON, import stopped: " + broken.getOriginalMessage());
+                        break;
+                    }
+                    // Well-formed JSON that does not bind; MappingIterator skips to the next element
+                    run.reject(rowNumber, null, "Malformed row: " + e.getMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+    
+    public BulkImportResultDto importCsv(InputStream body) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                return run.finish();
+            }
+            Map<String, Integer> columns = csvColumns(parseCsvLine(header));
+            
+            String line;
+            int rowNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                rowNumber++;
+                List<String> fields = parseCsvLine(line);
+                String email = field(fields, columns, "email");
+                try {
+                    EmployeeDto employee = new EmployeeDto();
+                    employee.setName(field(fields, columns, "name"));
+                    employee.setEmail(email);
+                    // Blank values stay null so the validator reports them like a missing JSON field
+                    employee.setSalary(parse(field(fields, columns, "salary"), BigDecimal::new));
+                    employee.setJoiningDate(parse(field(fields, columns, "joiningDate"), LocalDate::parse));
+                    employee.setDepartmentId(parse(field(fields, columns, "departmentId"), Long::valueOf));
+                    run.accept(rowNumber, employee);
+                } catch (RuntimeException e) {
+                    run.reject(rowNumber, email, "Malformed row: " + e.getMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+    
+    private Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(column -> !columns.containsKey(column)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+    
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        int index = columns.get(column);
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+    
+    private <T> T parse(String value, Function<String, T> parser) {
+        return value == null || value.isEmpty() ? null : parser.apply(value);
+    }
+    
+    // Minimal RFC 4180 field splitting: commas, double-quoted fields and "" escapes
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+    
+    // State of one import request
+    private class ImportRun {
+        
+        private final BulkImportResultDto result = new BulkImportResultDto();
+        private final Map<Integer, EmployeeDto> chunk = new LinkedHashMap<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Map<Long, Boolean> knownDepartments = new HashMap<>();
+        
+        void accept(int rowNumber, EmployeeDto employee) {
+            Set<ConstraintViolation<EmployeeDto>> violations = validator.validate(employee);
+            if (!violations.isEmpty()) {
+                reject(rowNumber, employee.getEmail(), violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (!seenEmails.add(employee.getEmail())) {
+                reject(rowNumber, employee.getEmail(), "Duplicate email within the import");
+                return;
+            }
+            if (!knownDepartments.computeIfAbsent(employee.getDepartmentId(), departmentCache::exists)) {
+                reject(rowNumber, employee.getEmail(), "Department not found with id : '" + employee.getDepartmentId() + "'");
+                return;
+            }
+            
+            chunk.put(rowNumber, employee);
+            if (chunk.size() >= batchSize) {
+                flushChunk();
+            }
+        }
+        
+        void reject(int rowNumber, String email, String message) {
+            result.addError(rowNumber, email, message);
+        }
+        
+        BulkImportResultDto finish() {
+            flushChunk();
+            result.getErrors().sort((a, b) -> Integer.compare(a.getRow(), b.getRow()));
+            logger.info("Bulk import finished: {} imported, {} failed", result.getImportedRows(), result.getFailedRows());
+            return result;
+        }
+        
+        private void flushChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            
+            // One set query against the unique email constraint for the whole chunk
+            Set<String> existingEmails = new HashSet<>(employeeRepository.findExistingEmails(
+                    chunk.values().stream().map(EmployeeDto::getEmail).collect(Collectors.toList())));
+            List<Map.Entry<Integer, EmployeeDto>> rows = new ArrayList<>();
+            chunk.forEach((rowNumber, employee) -> {
+                if (existingEmails.contains(employee.getEmail())) {
+                    reject(rowNumber, employee.getEmail(), "Employee with email " + employee.getEmail() + " already exists");
+                } else {
+                    rows.add(Map.entry(rowNumber, employee));
+                }
+            });
+            chunk.clear();
+            
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(rows));
+                result.addImported(rows.size());
+            } catch (RuntimeException e) {
+                logger.warn("Bulk import chunk of {} rows failed: {}", rows.size(), e.getMessage());
+                rows.forEach(row -> reject(row.getKey(), row.getValue().getEmail(), "Insert failed: " + e.getMessage()));
+            }
+        }
+        
+        private void persist(List<Map.Entry<Integer, EmployeeDto>> rows) {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(batchSize);
+            List<SalaryChange> hires = new ArrayList<>(rows.size());
+            for (Map.Entry<Integer, EmployeeDto> row : rows) {
+                EmployeeDto dto = row.getValue();
+                Employee employee = new Employee(dto.getName(), dto.getEmail(), dto.getSalary(), dto.getJoiningDate(),
+                        departmentRepository.getReferenceById(dto.getDepartmentId()));
+                entityManager.persist(employee);
+                hires.add(new SalaryChange(employee.getId(), dto.getDepartmentId(), dto.getSalary()));
+            }
+            // Pooled sequence ids are assigned in memory, so the inserts go out as JDBC batches here
+            entityManager.flush();
+            entityManager.clear();
+            salaryHistoryService.recordAll(SalaryHistoryService.ChangeType.HIRED, hires, LocalDateTime.now());
+        }
+    }
+} 
\ No newline at end of file
@@ -1,35 +1,54 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.DepartmentDto;
 import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.EmployeeSearchCriteria;
+import com.example.demo.dto.EmployeeSummaryDto;
+import com.example.demo.dto.KeysetPageDto;
 import com.example.demo.dto.SalaryAdjustmentDto;
-import com.example.demo.entity.Department;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
 import com.example.demo.entity.Employee;
 import com.example.demo.entity.SalaryAdjustment;
 import com.example.demo.exception.DuplicateAdjustmentException;
 import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.exception.VersionMismatchException;
 import com.example.demo.repository.DepartmentRepository;
 import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.repository.EmployeeSearchOrder;
 import com.example.demo.repository.SalaryAdjustmentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 public class EmployeeService {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
-    private static final BigDecimal MAX_SALARY = new BigDecimal("20000000"); // ₹20,000,000 PKR
-    private static final BigDecimal TENURE_BONUS_PERCENTAGE = new BigDecimal("0.05");
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "email", "salary", "joiningDate", "departmentId", "version");
     
     @Autowired
     private EmployeeRepository employeeRepository;
@@ -40,13 +59,44 @@ public class EmployeeService {
     @Autowired
     private SalaryAdjustmentRepository salaryAdjustmentRepository;
     
+    @Autowired
+    private SalaryAdjustmentEngine salaryAdjustmentEngine;
+    
+    @Autowired
+    private DepartmentCache departmentCache;
+    
+    @Autowired
+    private SalaryAdjustmentStatsTracker salaryAdjustmentStatsTracker;
+    
+    @Autowired
+    private AdjustmentIdempotencyGuard adjustmentIdempotencyGuard;
+    
+    @Autowired
+    private DepartmentLocks departmentLocks;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private SalaryAdjustmentMetrics salaryAdjustmentMetrics;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Validator validator;
+    
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
+    @Transactional
     public EmployeeDto createEmployee(EmployeeDto employeeDto) {
         // Check if employee with same email already exists
         if (employeeRepository.existsByEmail(employeeDto.getEmail())) {
             throw new IllegalArgumentException("Employee with email " + employeeDto.getEmail() + " already exists");
         }
         
-        Department department = departmentRepository.findById(employeeDto.getDepartmentId())
+        DepartmentDto department = departmentCache.get(employeeDto.getDepartmentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Department", "id", employeeDto.getDepartmentId()));
         
         Employee employee = new Employee();
@@ -54,131 +104,250 @@ public class EmployeeService {
         employee.setEmail(employeeDto.getEmail());
         employee.setSalary(employeeDto.getSalary());
         employee.setJoiningDate(employeeDto.getJoiningDate());
-        employee.setDepartment(department);
+        employee.setDepartment(departmentRepository.getReferenceById(department.getId()));
         
         Employee savedEmployee = employeeRepository.save(employee);
-        return convertToDto(savedEmployee);
+        salaryHistoryService.record(SalaryHistoryService.ChangeType.HIRED,
+                new SalaryChange(savedEmployee.getId(), department.getId(), savedEmployee.getSalary()));
+        return convertToDto(savedEmployee, department);
     }
     
     public EmployeeDto getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
+        return employeeRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
-        return convertToDto(employee);
     }
     
     public List<EmployeeDto> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return employeeRepository.findAllDtos();
     }
     
     public List<EmployeeDto> getEmployeesByDepartment(Long departmentId) {
-        // Check if department exists
-        if (!departmentRepository.existsById(departmentId)) {
-            throw new ResourceNotFoundException("Department", "id", departmentId);
+        verifyDepartmentExists(departmentId);
+        
+        return employeeRepository.findDtosByDepartmentId(departmentId);
+    }
+    
+    public KeysetPageDto<EmployeeDto> getEmployeesPage(Long after, int limit) {
+        validatePageLimit(limit);
+        List<EmployeeDto> rows = employeeRepository.findDtoPageAfter(
+                after != null ? after : 0L, Limit.of(limit + 1));
+        return toPage(rows, limit);
+    }
+    
+    public KeysetPageDto<EmployeeDto> getEmployeesByDepartmentPage(Long departmentId, Long after, int limit) {
+        verifyDepartmentExists(departmentId);
+        validatePageLimit(limit);
+        List<EmployeeDto> rows = employeeRepository.findDtoPageByDepartmentAfter(
+                departmentId, after != null ? after : 0L, Limit.of(limit + 1));
+        return toPage(rows, limit);
+    }
+    
+    public KeysetPageDto<EmployeeDto> searchEmployees(EmployeeSearchCriteria criteria, String after, int limit) {
+        validatePageLimit(limit);
+        if (criteria.getMinSalary() != null && criteria.getMaxSalary() != null
+                && criteria.getMinSalary().compareTo(criteria.getMaxSalary()) > 0) {
+            throw new IllegalArgumentException("minSalary must not be greater than maxSalary");
+        }
+        if (criteria.getJoinedFrom() != null && criteria.getJoinedTo() != null
+                && criteria.getJoinedFrom().isAfter(criteria.getJoinedTo())) {
+            throw new IllegalArgumentException("joinedFrom must not be after joinedTo");
+        }
+        EmployeeSearchOrder order = EmployeeSearchOrder.forCriteria(criteria);
+        String afterKey = null;
+        Long afterId = null;
+        if (after != null) {
+            try {
+                if (order == EmployeeSearchOrder.ID) {
+                    afterId = Long.valueOf(after);
+                } else {
+                    // Cursor is "<id>:<sort key>", base64url-encoded because the key is free text
+                    String decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+                    int separator = decoded.indexOf(':');
+                    afterId = Long.valueOf(decoded.substring(0, separator));
+                    afterKey = decoded.substring(separator + 1);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid search cursor: " + after);
+            }
         }
         
-        return employeeRepository.findByDepartmentId(departmentId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<EmployeeDto> rows = employeeRepository.searchDtos(criteria, order, afterKey, afterId, limit + 1);
+        rows.forEach(row -> row.setDepartmentName(
+                departmentCache.get(row.getDepartmentId()).map(DepartmentDto::getName).orElse(null)));
+        return toPage(rows, limit, last -> order == EmployeeSearchOrder.ID
+                ? String.valueOf(last.getId())
+                : Base64.getUrlEncoder().withoutPadding().encodeToString(
+                        (last.getId() + ":" + order.keyOf(last)).getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    // Rows are handed to the consumer one by one, so memory stays flat regardless of table size
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeDto> consumer) {
+        try (Stream<EmployeeDto> employees = employeeRepository.streamAllDtos()) {
+            employees.forEach(consumer);
+        }
+    }
+    
+    @Transactional(readOnly = true)
+    public void streamEmployeesByDepartment(Long departmentId, Consumer<EmployeeDto> consumer) {
+        try (Stream<EmployeeDto> employees = employeeRepository.streamDtosByDepartmentId(departmentId)) {
+            employees.forEach(consumer);
+        }
+    }
+    
+    public void verifyDepartmentExists(Long departmentId) {
+        if (!departmentCache.exists(departmentId)) {
+            throw new ResourceNotFoundException("Department", "id", departmentId);
+        }
     }
     
     public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto) {
+        return updateEmployee(id, employeeDto, employeeDto.getVersion());
+    }
+    
+    // expectedVersion comes from If-Match or the request body; null skips the check. A writer that
+    // commits between this read and the flush is still caught by the @Version check on UPDATE.
+    @Transactional
+    public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto, Long expectedVersion) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new VersionMismatchException("Employee", id, expectedVersion, employee.getVersion());
+        }
         
-        Department department = departmentRepository.findById(employeeDto.getDepartmentId())
+        DepartmentDto department = departmentCache.get(employeeDto.getDepartmentId())
                 .orElseThrow(() -> new ResourceNotFoundException("Department", "id", employeeDto.getDepartmentId()));
+        SalaryChange previous = new SalaryChange(id, employee.getDepartment().getId(), employee.getSalary());
         
         employee.setName(employeeDto.getName());
         employee.setEmail(employeeDto.getEmail());
         employee.setSalary(employeeDto.getSalary());
         employee.setJoiningDate(employeeDto.getJoiningDate());
-        employee.setDepartment(department);
+        employee.setDepartment(departmentRepository.getReferenceById(department.getId()));
         
-        Employee updatedEmployee = employeeRepository.save(employee);
-        return convertToDto(updatedEmployee);
+        // Flush now so the returned DTO carries the incremented version
+        Employee updatedEmployee = employeeRepository.saveAndFlush(employee);
+        recordIfChanged(previous, updatedEmployee.getSalary(), department.getId());
+        return convertToDto(updatedEmployee, department);
     }
     
-    public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Employee", "id", id);
+    // JSON Merge Patch (RFC 7396) over the flat employee document: absent fields are kept, present ones
+    // replace the stored value, and null clears it (which validation rejects for every patchable field).
+    // Only changed columns are written (@DynamicUpdate), and the department is only looked up when it changes.
+    @Transactional
+    public EmployeeDto patchEmployee(Long id, JsonNode patch, Long expectedVersion) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
         }
-        employeeRepository.deleteById(id);
-    }
-    
-    public void adjustSalary(SalaryAdjustmentDto adjustmentDto) {
-        // Validate performance score
-        if (adjustmentDto.getPerformanceScore() < 0 || adjustmentDto.getPerformanceScore() > 100) {
-            throw new IllegalArgumentException("Performance score must be between 0 and 100");
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field '" + field + "' cannot be patched");
+            }
+        });
+        
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        Long versionToMatch = expectedVersion != null ? expectedVersion
+                : patch.hasNonNull("version") ? patch.get("version").asLong() : null;
+        if (versionToMatch != null && !versionToMatch.equals(employee.getVersion())) {
+            throw new VersionMismatchException("Employee", id, versionToMatch, employee.getVersion());
         }
         
-        // Check for duplicate adjustment within 30 minutes (idempotency)
-        LocalDateTime thirtyMinutesAgo = LocalDateTime.now().minusMinutes(30);
-        List<SalaryAdjustment> recentAdjustments = salaryAdjustmentRepository
-                .findRecentAdjustmentsByDepartmentAndScore(
-                        adjustmentDto.getDepartmentId(),
-                        adjustmentDto.getPerformanceScore(),
-                        thirtyMinutesAgo);
+        // The lazy department proxy answers getId() without loading the row
+        Long currentDepartmentId = employee.getDepartment().getId();
+        BigDecimal previousSalary = employee.getSalary();
+        EmployeeDto patched = new EmployeeDto(employee.getId(), employee.getName(), employee.getEmail(),
+                employee.getSalary(), employee.getJoiningDate(), currentDepartmentId, null, employee.getVersion());
+        try {
+            objectMapper.readerForUpdating(patched).readValue(patch);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid merge patch: " + e.getMessage());
+        }
+        Set<ConstraintViolation<EmployeeDto>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
         
-        if (!recentAdjustments.isEmpty()) {
-            throw new DuplicateAdjustmentException(
-                    "Salary adjustment for department " + adjustmentDto.getDepartmentId() + 
-                    " with performance score " + adjustmentDto.getPerformanceScore() + 
-                    " has already been processed within the last 30 minutes");
+        if (!patched.getEmail().equals(employee.getEmail()) && employeeRepository.existsByEmail(patched.getEmail())) {
+            throw new IllegalArgumentException("Employee with email " + patched.getEmail() + " already exists");
         }
         
-        // Check if department exists
-        if (!departmentRepository.existsById(adjustmentDto.getDepartmentId())) {
-            throw new ResourceNotFoundException("Department", "id", adjustmentDto.getDepartmentId());
+        DepartmentDto department;
+        if (patched.getDepartmentId().equals(currentDepartmentId)) {
+            department = departmentCache.get(currentDepartmentId).orElse(null);
+        } else {
+            department = departmentCache.get(patched.getDepartmentId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Department", "id", patched.getDepartmentId()));
+            employee.setDepartment(departmentRepository.getReferenceById(department.getId()));
         }
         
-        // Get employees in the department
-        List<Employee> employees = employeeRepository.findByDepartmentId(adjustmentDto.getDepartmentId());
+        // Setting an unchanged value leaves the attribute clean, so it is not part of the UPDATE
+        employee.setName(patched.getName());
+        employee.setEmail(patched.getEmail());
+        employee.setSalary(patched.getSalary());
+        employee.setJoiningDate(patched.getJoiningDate());
         
-        if (employees.isEmpty()) {
-            logger.warn("No employees found in department with ID: {}", adjustmentDto.getDepartmentId());
-            return;
-        }
+        Employee updatedEmployee = employeeRepository.saveAndFlush(employee);
+        recordIfChanged(new SalaryChange(id, currentDepartmentId, previousSalary), updatedEmployee.getSalary(),
+                patched.getDepartmentId());
+        return new EmployeeDto(updatedEmployee.getId(), updatedEmployee.getName(), updatedEmployee.getEmail(),
+                updatedEmployee.getSalary(), updatedEmployee.getJoiningDate(), patched.getDepartmentId(),
+                department != null ? department.getName() : null, updatedEmployee.getVersion());
+    }
+    
+    // The ledger keeps the employee's history and closes it with a TERMINATED row
+    @Transactional
+    public void deleteEmployee(Long id) {
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", id));
+        employeeRepository.delete(employee);
+        salaryHistoryService.record(SalaryHistoryService.ChangeType.TERMINATED,
+                new SalaryChange(id, employee.getDepartment().getId(), employee.getSalary()));
+    }
+    
+    public int adjustSalary(SalaryAdjustmentDto adjustmentDto) {
+        return adjustSalary(adjustmentDto, SalaryAdjustmentProgress.NONE);
+    }
+    
+    // Returns the number of employees adjusted, 0 when the department has no employees
+    public int adjustSalary(SalaryAdjustmentDto adjustmentDto, SalaryAdjustmentProgress progress) {
+        validatePerformanceScore(adjustmentDto.getPerformanceScore());
         
-        // Calculate adjustment percentage based on performance score
-        BigDecimal adjustmentPercentage = calculateAdjustmentPercentage(adjustmentDto.getPerformanceScore());
+        // Adjustments for the same department run one at a time. The striped lock keeps
+        // concurrent requests on this instance from queueing on the database; the department
+        // row lock taken inside the transaction covers other instances.
+        return salaryAdjustmentMetrics.timeAdjustment(() -> {
+            Lock departmentLock = departmentLocks.lockFor(adjustmentDto.getDepartmentId());
+            departmentLock.lock();
+            try {
+                return transactionTemplate.execute(status -> applyAdjustment(adjustmentDto, progress));
+            } finally {
+                departmentLock.unlock();
+            }
+        });
+    }
+    
+    // Cheap pre-checks for callers that queue the adjustment; they are repeated under the lock
+    public void validateAdjustmentRequest(SalaryAdjustmentDto adjustmentDto) {
+        validatePerformanceScore(adjustmentDto.getPerformanceScore());
+        verifyDepartmentExists(adjustmentDto.getDepartmentId());
+        checkNotDuplicate(adjustmentDto, "request");
+    }
+    
+    private int applyAdjustment(SalaryAdjustmentDto adjustmentDto, SalaryAdjustmentProgress progress) {
+        // Check if department exists and hold its row lock until commit
+        departmentRepository.findByIdForUpdate(adjustmentDto.getDepartmentId())
+                .orElseThrow(() -> new ResourceNotFoundException("Department", "id", adjustmentDto.getDepartmentId()));
         
-        // Calculate tenure bonus date (5 years ago)
-        LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
+        // Check for duplicate adjustment within 30 minutes (idempotency)
+        checkNotDuplicate(adjustmentDto, "locked");
         
-        // Get employees with tenure
-        List<Employee> employeesWithTenure = employeeRepository.findEmployeesInDepartmentWithTenure(
-                adjustmentDto.getDepartmentId(), fiveYearsAgo);
+        int adjustedEmployees = salaryAdjustmentEngine.adjustDepartment(
+                adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore(), progress);
         
-        for (Employee employee : employees) {
-            BigDecimal newSalary = employee.getSalary();
-            
-            // Apply performance-based adjustment
-            if (adjustmentPercentage.compareTo(BigDecimal.ZERO) > 0) {
-                BigDecimal performanceIncrease = employee.getSalary().multiply(adjustmentPercentage);
-                newSalary = newSalary.add(performanceIncrease);
-            }
-            
-            // Apply tenure bonus
-            if (employeesWithTenure.contains(employee)) {
-                BigDecimal tenureBonus = employee.getSalary().multiply(TENURE_BONUS_PERCENTAGE);
-                newSalary = newSalary.add(tenureBonus);
-                logger.info("Applied tenure bonus for employee: {}", employee.getName());
-            }
-            
-            // Apply salary cap
-            if (newSalary.compareTo(MAX_SALARY) > 0) {
-                newSalary = MAX_SALARY;
-                logger.info("Applied salary cap for employee: {}", employee.getName());
-            }
-            
-            // Update employee salary
-            employee.setSalary(newSalary.setScale(2, RoundingMode.HALF_UP));
-            employeeRepository.save(employee);
-            
-            logger.info("Salary adjusted for employee: {} from {} to {}", 
-                    employee.getName(), employee.getSalary(), newSalary);
+        if (adjustedEmployees == 0) {
+            logger.warn("No employees found in department with ID: {}", adjustmentDto.getDepartmentId());
+            return 0;
         }
         
         // Save the salary adjustment record for idempotency
@@ -186,76 +355,114 @@ public class EmployeeService {
                 adjustmentDto.getDepartmentId(), 
                 adjustmentDto.getPerformanceScore());
         salaryAdjustmentRepository.save(salaryAdjustment);
+        salaryAdjustmentStatsTracker.record(adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore());
+        adjustmentIdempotencyGuard.record(salaryAdjustment.getDepartmentId(), salaryAdjustment.getPerformanceScore(),
+                salaryAdjustment.getCreatedAt());
         
         logger.info("Salary adjustment completed for department {} with performance score {}", 
                 adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore());
+        return adjustedEmployees;
     }
     
-    public List<SalaryAdjustmentDto> getSalaryAdjustmentHistory() {
-        return salaryAdjustmentRepository.findAll().stream()
-                .map(this::convertToSalaryAdjustmentDto)
-                .collect(Collectors.toList());
+    private void validatePerformanceScore(Integer performanceScore) {
+        if (performanceScore < 0 || performanceScore > 100) {
+            throw new IllegalArgumentException("Performance score must be between 0 and 100");
+        }
     }
     
-    public Map<String, Object> getSalaryAdjustmentStats() {
-        List<SalaryAdjustment> allAdjustments = salaryAdjustmentRepository.findAll();
-        
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalAdjustments", allAdjustments.size());
-        
-        if (!allAdjustments.isEmpty()) {
-            double avgPerformanceScore = allAdjustments.stream()
-                    .mapToInt(SalaryAdjustment::getPerformanceScore)
-                    .average()
-                    .orElse(0.0);
-            stats.put("averagePerformanceScore", avgPerformanceScore);
-            
-            long highPerformers = allAdjustments.stream()
-                    .filter(adj -> adj.getPerformanceScore() >= 90)
-                    .count();
-            stats.put("highPerformanceAdjustments", highPerformers);
-            
-            long mediumPerformers = allAdjustments.stream()
-                    .filter(adj -> adj.getPerformanceScore() >= 70 && adj.getPerformanceScore() < 90)
-                    .count();
-            stats.put("mediumPerformanceAdjustments", mediumPerformers);
-            
-            long lowPerformers = allAdjustments.stream()
-                    .filter(adj -> adj.getPerformanceScore() < 70)
-                    .count();
-            stats.put("lowPerformanceAdjustments", lowPerformers);
+    private void checkNotDuplicate(SalaryAdjustmentDto adjustmentDto, String stage) {
+        if (adjustmentIdempotencyGuard.isDuplicate(adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore())) {
+            salaryAdjustmentMetrics.duplicateRejected(stage);
+            throw new DuplicateAdjustmentException(
+                    "Salary adjustment for department " + adjustmentDto.getDepartmentId() + 
+                    " with performance score " + adjustmentDto.getPerformanceScore() + 
+                    " has already been processed within the last " + adjustmentIdempotencyGuard.getWindow().toMinutes() + " minutes");
+        }
+    }
+    
+    public KeysetPageDto<SalaryAdjustmentDto> getSalaryAdjustmentHistory(SalaryAdjustmentSearchCriteria criteria,
+                                                                        String after, int limit) {
+        validatePageLimit(limit);
+        if (criteria.getMinScore() != null && criteria.getMaxScore() != null
+                && criteria.getMinScore() > criteria.getMaxScore()) {
+            throw new IllegalArgumentException("minScore must not be greater than maxScore");
+        }
+        if (criteria.getFrom() != null && criteria.getTo() != null && !criteria.getFrom().isBefore(criteria.getTo())) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (after != null) {
+            try {
+                // Cursor is "<id>:<createdAt>", base64url-encoded like the search cursor
+                String decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+                int separator = decoded.indexOf(':');
+                afterId = Long.valueOf(decoded.substring(0, separator));
+                afterCreatedAt = LocalDateTime.parse(decoded.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid salary adjustment cursor: " + after);
+            }
         }
         
-        return stats;
+        List<SalaryAdjustmentDto> rows = salaryAdjustmentRepository.findHistoryPage(criteria, afterCreatedAt, afterId, limit + 1);
+        if (rows.size() <= limit) {
+            return new KeysetPageDto<>(rows, limit, null);
+        }
+        List<SalaryAdjustmentDto> content = new ArrayList<>(rows.subList(0, limit));
+        SalaryAdjustmentDto last = content.get(limit - 1);
+        String nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (last.getId() + ":" + last.getCreatedAt()).getBytes(StandardCharsets.UTF_8));
+        return new KeysetPageDto<>(content, limit, nextCursor);
     }
     
-    private BigDecimal calculateAdjustmentPercentage(Integer performanceScore) {
-        if (performanceScore >= 90) {
-            return new BigDecimal("0.15"); // 15% increase
-        } else if (performanceScore >= 70) {
-            return new BigDecimal("0.10"); // 10% increase
-        } else {
-            logger.warn("Performance score {} is below 70, no salary increase applied", performanceScore);
-            return BigDecimal.ZERO; // No increase
+    public Map<String, Object> getSalaryAdjustmentStats() {
+        return salaryAdjustmentStatsTracker.getStats();
+    }
+    
+    public EmployeeSummaryDto getEmployeeSummary() {
+        return new EmployeeSummaryDto(employeeRepository.summarizeSalariesByDepartment());
+    }
+    
+    // Only salary and department changes reach the ledger; a rename or new email does not
+    private void recordIfChanged(SalaryChange previous, BigDecimal salary, Long departmentId) {
+        if (previous.getSalary().compareTo(salary) != 0 || !previous.getDepartmentId().equals(departmentId)) {
+            salaryHistoryService.record(SalaryHistoryService.ChangeType.UPDATED,
+                    new SalaryChange(previous.getEmployeeId(), departmentId, salary));
+        }
+    }
+    
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+    
+    // Queries fetch limit + 1 rows; the extra row only tells us whether another page exists
+    private KeysetPageDto<EmployeeDto> toPage(List<EmployeeDto> rows, int limit) {
+        return toPage(rows, limit, last -> String.valueOf(last.getId()));
+    }
+    
+    private KeysetPageDto<EmployeeDto> toPage(List<EmployeeDto> rows, int limit, Function<EmployeeDto, String> cursor) {
+        if (rows.size() <= limit) {
+            return new KeysetPageDto<>(rows, limit, null);
         }
+        List<EmployeeDto> content = new ArrayList<>(rows.subList(0, limit));
+        String nextCursor = cursor.apply(content.get(limit - 1));
+        return new KeysetPageDto<>(content, limit, nextCursor);
     }
     
-    private EmployeeDto convertToDto(Employee employee) {
+    // The department comes from the cache, so its lazy proxy on the employee is never initialized.
+    // Package-private so the JMH benchmarks can call it directly.
+    EmployeeDto convertToDto(Employee employee, DepartmentDto department) {
         return new EmployeeDto(
                 employee.getId(),
                 employee.getName(),
                 employee.getEmail(),
                 employee.getSalary(),
                 employee.getJoiningDate(),
-                employee.getDepartment().getId(),
-                employee.getDepartment().getName()
-        );
-    }
-    
-    private SalaryAdjustmentDto convertToSalaryAdjustmentDto(SalaryAdjustment adjustment) {
-        return new SalaryAdjustmentDto(
-                adjustment.getDepartmentId(),
-                adjustment.getPerformanceScore()
+                department.getId(),
+                department.getName(),
+                employee.getVersion()
         );
     }
 } 
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentAdjustmentResultDto;
+import com.example.demo.dto.SalaryAdjustmentBatchResultDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.exception.DuplicateAdjustmentException;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+// Runs a review cycle's department adjustments in parallel. Each department goes through adjustSalary,
+// so it gets its own transaction, department lock and duplicate check; one failing department does
+// not affect the others.
+@Service
+public class SalaryAdjustmentBatchService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAdjustmentBatchService.class);
+    
+    public enum Outcome {
+        APPLIED, EMPTY, DUPLICATE, NOT_FOUND, FAILED
+    }
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    @Qualifier("salaryAdjustmentBatchExecutor")
+    private ThreadPoolTaskExecutor salaryAdjustmentBatchExecutor;
+    
+    public SalaryAdjustmentBatchResultDto run(List<SalaryAdjustmentDto> adjustments) {
+        long start = System.nanoTime();
+        List<CompletableFuture<DepartmentAdjustmentResultDto>> futures = new ArrayList<>(adjustments.size());
+        for (SalaryAdjustmentDto adjustment : adjustments) {
+            futures.add(CompletableFuture.supplyAsync(() -> adjust(adjustment), salaryAdjustmentBatchExecutor));
+        }
+        
+        List<DepartmentAdjustmentResultDto> results = new ArrayList<>(futures.size());
+        Map<String, Long> outcomes = new LinkedHashMap<>();
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome.name(), 0L);
+        }
+        long adjustedEmployees = 0;
+        for (CompletableFuture<DepartmentAdjustmentResultDto> future : futures) {
+            DepartmentAdjustmentResultDto result = future.join();
+            results.add(result);
+            outcomes.merge(result.getOutcome(), 1L, Long::sum);
+            adjustedEmployees += result.getAdjustedEmployees();
+        }
+        
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int parallelism = salaryAdjustmentBatchExecutor.getMaxPoolSize();
+        logger.info("Batch salary adjustment of {} departments finished in {} ms on {} workers: {}",
+                adjustments.size(), elapsedMillis, parallelism, outcomes);
+        return new SalaryAdjustmentBatchResultDto(results, outcomes, adjustedEmployees, parallelism, elapsedMillis);
+    }
+    
+    private DepartmentAdjustmentResultDto adjust(SalaryAdjustmentDto adjustment) {
+        long start = System.nanoTime();
+        Outcome outcome;
+        int adjustedEmployees = 0;
+        String message = null;
+        try {
+            adjustedEmployees = employeeService.adjustSalary(adjustment);
+            outcome = adjustedEmployees > 0 ? Outcome.APPLIED : Outcome.EMPTY;
+        } catch (DuplicateAdjustmentException e) {
+            outcome = Outcome.DUPLICATE;
+            message = e.getMessage();
+        } catch (ResourceNotFoundException e) {
+            outcome = Outcome.NOT_FOUND;
+            message = e.getMessage();
+        } catch (RuntimeException e) {
+            logger.error("Salary adjustment for department {} failed", adjustment.getDepartmentId(), e);
+            outcome = Outcome.FAILED;
+            message = e.getMessage();
+        }
+        return new DepartmentAdjustmentResultDto(adjustment.getDepartmentId(), adjustment.getPerformanceScore(),
+                outcome.name(), adjustedEmployees, message, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+} 
\ No newline at end of file
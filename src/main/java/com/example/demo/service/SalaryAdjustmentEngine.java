@@ -0,0 +1,163 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.EmployeeSalarySnapshot;
+import com.example.demo.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class SalaryAdjustmentEngine {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAdjustmentEngine.class);
+    // Versioned like a JPA update, so a concurrent PUT is never overwritten with a stale salary
+    private static final String UPDATE_SALARY_SQL =
+            "UPDATE employees SET salary = ?, version = version + 1 WHERE id = ? AND version = ?";
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private SalaryAdjustmentMetrics salaryAdjustmentMetrics;
+    
+    @Autowired
+    private SalaryHistoryService salaryHistoryService;
+    
+    @Value("${app.salary-adjustment.batch-size:1000}")
+    private int batchSize;
+    
+    @Value("${app.salary-adjustment.conflict-retries:3}")
+    private int conflictRetries;
+    
+    @Transactional
+    public int adjustDepartment(Long departmentId, Integer performanceScore) {
+        return adjustDepartment(departmentId, performanceScore, SalaryAdjustmentProgress.NONE);
+    }
+    
+    // Reads the department once through a narrow projection and writes the new salaries
+    // back in chunked JDBC batches. Returns the number of employees adjusted.
+    @Transactional
+    public int adjustDepartment(Long departmentId, Integer performanceScore, SalaryAdjustmentProgress progress) {
+        List<EmployeeSalarySnapshot> employees = employeeRepository.findSalarySnapshotsByDepartmentId(departmentId);
+        progress.started(employees.size());
+        
+        if (employees.isEmpty()) {
+            return 0;
+        }
+        
+        SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(performanceScore, LocalDate.now());
+        if (plan.getAdjustmentPercentage().signum() == 0) {
+            logger.warn("Performance score {} is below 70, no salary increase applied", performanceScore);
+        }
+        
+        // Rows updated concurrently since the snapshot match no row in the versioned UPDATE. They are
+        // re-read and recomputed from their new salary, a few times before the whole adjustment is rolled back.
+        // Each pass stamps its ledger rows once; a retry pass is stamped no earlier than the rows of the
+        // concurrent updates it supersedes, so the as-of queries see the retried salary as the latest.
+        AdjustmentTally tally = new AdjustmentTally(departmentId, plan, progress);
+        List<EmployeeSalarySnapshot> pending = employees;
+        LocalDateTime effectiveFrom = LocalDateTime.now();
+        for (int attempt = 0; ; attempt++) {
+            List<Long> conflicts = write(pending, plan, tally, effectiveFrom);
+            if (conflicts.isEmpty()) {
+                break;
+            }
+            if (attempt == conflictRetries) {
+                throw new OptimisticLockingFailureException("Salary adjustment for department " + departmentId
+                        + " kept conflicting with concurrent updates of " + conflicts.size() + " employees");
+            }
+            salaryAdjustmentMetrics.conflictRetried(conflicts.size());
+            logger.debug("Retrying {} employees in department {} updated concurrently", conflicts.size(), departmentId);
+            pending = employeeRepository.findSalarySnapshotsByDepartmentIdAndIds(departmentId, conflicts);
+            effectiveFrom = salaryHistoryService.nextEffectiveFrom(departmentId);
+        }
+        
+        salaryAdjustmentMetrics.recordEmployees(tally.processed, tally.withTenureBonus, tally.capped);
+        logger.info("Adjusted {} salaries in department {} by {}%: {} with tenure bonus, {} capped",
+                tally.processed, departmentId, plan.getAdjustmentPercentage().movePointRight(2).stripTrailingZeros().toPlainString(),
+                tally.withTenureBonus, tally.capped);
+        return tally.processed;
+    }
+    
+    // Writes the new salaries in chunked JDBC batches, each followed by a batch of ledger rows for the
+    // employees it updated, and returns the ids whose version had moved on
+    private List<Long> write(List<EmployeeSalarySnapshot> employees, SalaryAdjustmentPlan plan, AdjustmentTally tally,
+            LocalDateTime effectiveFrom) {
+        List<Long> conflicts = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>(Math.min(batchSize, employees.size()));
+        List<SalaryChange> changes = new ArrayList<>(Math.min(batchSize, employees.size()));
+        int from = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            EmployeeSalarySnapshot employee = employees.get(i);
+            BigDecimal newSalary = plan.apply(employee.getSalary(), plan.hasTenure(employee.getJoiningDate()));
+            batch.add(new Object[] { newSalary, employee.getId(), employee.getVersion() });
+            if (batch.size() == batchSize || i == employees.size() - 1) {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SALARY_SQL, batch);
+                for (int row = 0; row < counts.length; row++) {
+                    EmployeeSalarySnapshot written = employees.get(from + row);
+                    if (counts[row] == 0) {
+                        conflicts.add(written.getId());
+                    } else {
+                        BigDecimal writtenSalary = (BigDecimal) batch.get(row)[0];
+                        tally.written(written, writtenSalary);
+                        changes.add(new SalaryChange(written.getId(), tally.departmentId, writtenSalary));
+                    }
+                }
+                salaryHistoryService.recordAll(SalaryHistoryService.ChangeType.ADJUSTED, changes, effectiveFrom);
+                changes.clear();
+                tally.progress.processed(tally.processed);
+                from = i + 1;
+                batch.clear();
+            }
+        }
+        return conflicts;
+    }
+    
+    private static class AdjustmentTally {
+        
+        private final Long departmentId;
+        private final SalaryAdjustmentPlan plan;
+        private final SalaryAdjustmentProgress progress;
+        // Per-employee detail only at DEBUG; one INFO summary per department keeps large runs off the log I/O path
+        private final boolean debug = logger.isDebugEnabled();
+        private int processed;
+        private int withTenureBonus;
+        private int capped;
+        
+        AdjustmentTally(Long departmentId, SalaryAdjustmentPlan plan, SalaryAdjustmentProgress progress) {
+            this.departmentId = departmentId;
+            this.plan = plan;
+            this.progress = progress;
+        }
+        
+        void written(EmployeeSalarySnapshot employee, BigDecimal newSalary) {
+            boolean hasTenure = plan.hasTenure(employee.getJoiningDate());
+            boolean isCapped = newSalary.compareTo(SalaryAdjustmentPlan.MAX_SALARY) == 0;
+            processed++;
+            if (hasTenure) {
+                withTenureBonus++;
+            }
+            if (isCapped) {
+                capped++;
+            }
+            if (debug) {
+                logger.debug("Salary adjusted for employee: {} from {} to {} (tenure bonus: {}, capped: {})",
+                        employee.getName(), employee.getSalary(), newSalary, hasTenure, isCapped);
+            }
+        }
+    }
+} 
\ No newline at end of file
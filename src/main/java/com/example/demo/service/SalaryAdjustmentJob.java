@@ -0,0 +1,69 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SalaryAdjustmentJobDto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// State of one asynchronous salary adjustment. Written by the worker thread, read by pollers.
+public class SalaryAdjustmentJob implements SalaryAdjustmentProgress {
+    
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, DUPLICATE, NOT_FOUND, FAILED
+    }
+    
+    private final String id = UUID.randomUUID().toString();
+    private final Long departmentId;
+    private final Integer performanceScore;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    
+    private volatile Status status = Status.QUEUED;
+    private volatile int totalEmployees;
+    private volatile int processedEmployees;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    
+    public SalaryAdjustmentJob(Long departmentId, Integer performanceScore) {
+        this.departmentId = departmentId;
+        this.performanceScore = performanceScore;
+    }
+    
+    @Override
+    public void started(int totalEmployees) {
+        this.totalEmployees = totalEmployees;
+    }
+    
+    @Override
+    public void processed(int processedEmployees) {
+        this.processedEmployees = processedEmployees;
+    }
+    
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+    
+    void markFinished(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+    
+    boolean isFinished() {
+        return finishedAt != null;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+    
+    public SalaryAdjustmentJobDto toDto() {
+        return new SalaryAdjustmentJobDto(id, departmentId, performanceScore, status.name(), processedEmployees,
+                totalEmployees, message, submittedAt, startedAt, finishedAt);
+    }
+} 
\ No newline at end of file
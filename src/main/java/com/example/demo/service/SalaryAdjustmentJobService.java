@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentJobDto;
+import com.example.demo.exception.DuplicateAdjustmentException;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class SalaryAdjustmentJobService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAdjustmentJobService.class);
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    @Qualifier("salaryAdjustmentExecutor")
+    private ThreadPoolTaskExecutor salaryAdjustmentExecutor;
+    
+    @Value("${app.salary-adjustment.async.job-retention:1h}")
+    private Duration jobRetention;
+    
+    private final Map<String, SalaryAdjustmentJob> jobs = new ConcurrentHashMap<>();
+    
+    public SalaryAdjustmentJobDto submit(SalaryAdjustmentDto adjustmentDto) {
+        // Reject what we can before queueing; the worker repeats these checks under the department lock
+        employeeService.validateAdjustmentRequest(adjustmentDto);
+        
+        purgeExpiredJobs();
+        SalaryAdjustmentJob job = new SalaryAdjustmentJob(adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore());
+        jobs.put(job.getId(), job);
+        try {
+            salaryAdjustmentExecutor.execute(() -> run(job, adjustmentDto));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job.toDto();
+    }
+    
+    public SalaryAdjustmentJobDto getJob(String id) {
+        SalaryAdjustmentJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Salary adjustment job", "id", id);
+        }
+        return job.toDto();
+    }
+    
+    private void run(SalaryAdjustmentJob job, SalaryAdjustmentDto adjustmentDto) {
+        job.markRunning();
+        try {
+            int adjustedEmployees = employeeService.adjustSalary(adjustmentDto, job);
+            job.markFinished(SalaryAdjustmentJob.Status.COMPLETED, adjustedEmployees == 0
+                    ? "No employees found in department"
+                    : "Salary adjustment completed successfully");
+        } catch (DuplicateAdjustmentException e) {
+            job.markFinished(SalaryAdjustmentJob.Status.DUPLICATE, e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            job.markFinished(SalaryAdjustmentJob.Status.NOT_FOUND, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.error("Salary adjustment job {} failed", job.getId(), e);
+            job.markFinished(SalaryAdjustmentJob.Status.FAILED, e.getMessage());
+        }
+    }
+    
+    private void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.DuplicateAdjustmentException;
+import com.example.demo.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.IntSupplier;
+
+// Micrometer meters for salary adjustments, exposed under /actuator/metrics and /actuator/prometheus
+@Component
+public class SalaryAdjustmentMetrics {
+    
+    private final MeterRegistry registry;
+    private final DistributionSummary employeesPerAdjustment;
+    private final Counter tenureBonuses;
+    private final Counter cappedSalaries;
+    private final Counter conflictRetries;
+    
+    public SalaryAdjustmentMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.employeesPerAdjustment = DistributionSummary.builder("salary.adjustment.employees")
+                .description("Employees processed per salary adjustment")
+                .baseUnit("employees")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.tenureBonuses = Counter.builder("salary.adjustment.tenure.bonuses")
+                .description("Employees who received the tenure bonus")
+                .register(registry);
+        this.cappedSalaries = Counter.builder("salary.adjustment.capped")
+                .description("Adjusted salaries limited by the salary cap")
+                .register(registry);
+        this.conflictRetries = Counter.builder("salary.adjustment.conflict.retries")
+                .description("Employee salary updates retried after a concurrent update changed their version")
+                .register(registry);
+    }
+    
+    // Times one adjustment end to end, lock wait included, tagged with how it ended
+    public int timeAdjustment(IntSupplier adjustment) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "failed";
+        try {
+            int adjustedEmployees = adjustment.getAsInt();
+            outcome = adjustedEmployees > 0 ? "applied" : "empty";
+            return adjustedEmployees;
+        } catch (DuplicateAdjustmentException e) {
+            outcome = "duplicate";
+            throw e;
+        } catch (ResourceNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("salary.adjustment")
+                    .description("Salary adjustment duration")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+    
+    public void recordEmployees(int processed, int withTenureBonus, int capped) {
+        employeesPerAdjustment.record(processed);
+        tenureBonuses.increment(withTenureBonus);
+        cappedSalaries.increment(capped);
+    }
+    
+    // stage is "request" for the pre-check on queued jobs, "locked" for the check under the department lock
+    public void duplicateRejected(String stage) {
+        registry.counter("salary.adjustment.duplicates", "stage", stage).increment();
+    }
+    
+    public void conflictRetried(int employees) {
+        conflictRetries.increment(employees);
+    }
+} 
\ No newline at end of file
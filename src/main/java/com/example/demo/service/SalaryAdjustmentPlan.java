@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+// Everything that only depends on the performance score and the run date is resolved
+// once per adjustment, so the per-employee work is one comparison and one multiply.
+public final class SalaryAdjustmentPlan {
+    
+    static final BigDecimal MAX_SALARY = new BigDecimal("20000000"); // ₹20,000,000 PKR
+    static final long MAX_SALARY_CENTS = 20_000_000_00L;
+    static final BigDecimal TENURE_BONUS_PERCENTAGE = new BigDecimal("0.05");
+    static final int TENURE_BONUS_BASIS_POINTS = 500;
+    
+    private static final BigDecimal HIGH_PERFORMANCE_PERCENTAGE = new BigDecimal("0.15");
+    private static final BigDecimal GOOD_PERFORMANCE_PERCENTAGE = new BigDecimal("0.10");
+    
+    private final BigDecimal adjustmentPercentage;
+    private final BigDecimal baseMultiplier;
+    private final BigDecimal tenureMultiplier;
+    private final int baseMultiplierBasisPoints;
+    private final int tenureMultiplierBasisPoints;
+    private final LocalDate tenureCutoff;
+    
+    private SalaryAdjustmentPlan(BigDecimal adjustmentPercentage, LocalDate tenureCutoff) {
+        this.adjustmentPercentage = adjustmentPercentage;
+        // salary * (1 + p) is exactly salary + salary * p, so both bonuses fold into one multiplier
+        this.baseMultiplier = BigDecimal.ONE.add(adjustmentPercentage);
+        this.tenureMultiplier = baseMultiplier.add(TENURE_BONUS_PERCENTAGE);
+        this.baseMultiplierBasisPoints = SalaryCents.BASIS_POINTS + adjustmentPercentage.movePointRight(4).intValueExact();
+        this.tenureMultiplierBasisPoints = baseMultiplierBasisPoints + TENURE_BONUS_BASIS_POINTS;
+        this.tenureCutoff = tenureCutoff;
+    }
+    
+    public static SalaryAdjustmentPlan forPerformanceScore(Integer performanceScore, LocalDate runDate) {
+        // Employees who joined on or before this date get the tenure bonus (5 years)
+        return new SalaryAdjustmentPlan(calculateAdjustmentPercentage(performanceScore), runDate.minusYears(5));
+    }
+    
+    public boolean hasTenure(LocalDate joiningDate) {
+        return !joiningDate.isAfter(tenureCutoff);
+    }
+    
+    // Salaries with at most two decimals (every stored salary) go through the long-cents kernel;
+    // anything else takes the BigDecimal path, which gives the same result for those inputs
+    public BigDecimal apply(BigDecimal salary, boolean hasTenure) {
+        long cents = SalaryCents.toCents(salary);
+        if (cents != SalaryCents.NOT_REPRESENTABLE) {
+            return SalaryCents.toAmount(applyCents(cents, hasTenure));
+        }
+        return applyExact(salary, hasTenure);
+    }
+    
+    public long applyCents(long salaryCents, boolean hasTenure) {
+        return SalaryCents.multiplyCapped(salaryCents,
+                hasTenure ? tenureMultiplierBasisPoints : baseMultiplierBasisPoints, MAX_SALARY_CENTS);
+    }
+    
+    BigDecimal applyExact(BigDecimal salary, boolean hasTenure) {
+        BigDecimal newSalary = salary.multiply(hasTenure ? tenureMultiplier : baseMultiplier);
+        
+        // Apply salary cap
+        if (newSalary.compareTo(MAX_SALARY) > 0) {
+            newSalary = MAX_SALARY;
+        }
+        
+        return newSalary.setScale(2, RoundingMode.HALF_UP);
+    }
+    
+    public BigDecimal getAdjustmentPercentage() {
+        return adjustmentPercentage;
+    }
+    
+    public LocalDate getTenureCutoff() {
+        return tenureCutoff;
+    }
+    
+    static BigDecimal calculateAdjustmentPercentage(Integer performanceScore) {
+        if (performanceScore >= 90) {
+            return HIGH_PERFORMANCE_PERCENTAGE; // 15% increase
+        } else if (performanceScore >= 70) {
+            return GOOD_PERFORMANCE_PERCENTAGE; // 10% increase
+        } else {
+            return BigDecimal.ZERO; // No increase
+        }
+    }
+} 
\ No newline at end of file
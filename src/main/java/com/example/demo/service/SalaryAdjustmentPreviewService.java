@@ -0,0 +1,115 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.EmployeeSalarySnapshot;
+import com.example.demo.dto.KeysetPageDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentPreviewDto;
+import com.example.demo.dto.SalaryAdjustmentPreviewLineDto;
+import com.example.demo.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Runs the adjust-salary rules over a streamed projection of the department without writing anything.
+// No entities are loaded, so there is nothing for Hibernate to track or dirty-check.
+@Service
+public class SalaryAdjustmentPreviewService {
+    
+    private static final int MAX_PAGE_SIZE = 1000;
+    
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    
+    @Autowired
+    private EmployeeService employeeService;
+    
+    @Autowired
+    private AdjustmentIdempotencyGuard adjustmentIdempotencyGuard;
+    
+    // limit asks for a page of per-employee results in id order, starting after the given id
+    @Transactional(readOnly = true)
+    public SalaryAdjustmentPreviewDto preview(SalaryAdjustmentDto adjustmentDto, Long after, Integer limit) {
+        if (adjustmentDto.getPerformanceScore() < 0 || adjustmentDto.getPerformanceScore() > 100) {
+            throw new IllegalArgumentException("Performance score must be between 0 and 100");
+        }
+        if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        employeeService.verifyDepartmentExists(adjustmentDto.getDepartmentId());
+        
+        SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(adjustmentDto.getPerformanceScore(), LocalDate.now());
+        PreviewTally tally = new PreviewTally(plan, after != null ? after : 0L, limit);
+        try (Stream<EmployeeSalarySnapshot> employees =
+                     employeeRepository.streamSalarySnapshotsByDepartmentId(adjustmentDto.getDepartmentId())) {
+            employees.forEach(tally::add);
+        }
+        
+        boolean duplicate = adjustmentIdempotencyGuard.isDuplicate(
+                adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore());
+        return new SalaryAdjustmentPreviewDto(adjustmentDto.getDepartmentId(), adjustmentDto.getPerformanceScore(),
+                plan.getAdjustmentPercentage(), tally.headcount, tally.withTenureBonus, tally.capped,
+                SalaryCents.toAmount(tally.currentCents), SalaryCents.toAmount(tally.adjustedCents),
+                duplicate, tally.breakdown());
+    }
+    
+    // Totals are kept in cents; salary is NUMERIC(10, 2), so every stored value converts exactly
+    private static class PreviewTally {
+        
+        private final SalaryAdjustmentPlan plan;
+        private final long after;
+        private final Integer limit;
+        // One extra line tells whether another page exists
+        private final List<SalaryAdjustmentPreviewLineDto> lines;
+        private long headcount;
+        private long withTenureBonus;
+        private long capped;
+        private long currentCents;
+        private long adjustedCents;
+        
+        PreviewTally(SalaryAdjustmentPlan plan, long after, Integer limit) {
+            this.plan = plan;
+            this.after = after;
+            this.limit = limit;
+            this.lines = limit != null ? new ArrayList<>(limit + 1) : null;
+        }
+        
+        void add(EmployeeSalarySnapshot employee) {
+            long cents = SalaryCents.toCents(employee.getSalary());
+            if (cents == SalaryCents.NOT_REPRESENTABLE) {
+                throw new IllegalStateException("Salary of employee " + employee.getId() + " is not in whole cents");
+            }
+            boolean hasTenure = plan.hasTenure(employee.getJoiningDate());
+            long newCents = plan.applyCents(cents, hasTenure);
+            boolean isCapped = newCents == SalaryAdjustmentPlan.MAX_SALARY_CENTS;
+            headcount++;
+            if (hasTenure) {
+                withTenureBonus++;
+            }
+            if (isCapped) {
+                capped++;
+            }
+            currentCents += cents;
+            adjustedCents += newCents;
+            if (lines != null && employee.getId() > after && lines.size() <= limit) {
+                lines.add(new SalaryAdjustmentPreviewLineDto(employee.getId(), employee.getName(), employee.getSalary(),
+                        SalaryCents.toAmount(newCents), hasTenure, isCapped));
+            }
+        }
+        
+        KeysetPageDto<SalaryAdjustmentPreviewLineDto> breakdown() {
+            if (lines == null) {
+                return null;
+            }
+            if (lines.size() <= limit) {
+                return new KeysetPageDto<>(lines, limit, null);
+            }
+            List<SalaryAdjustmentPreviewLineDto> content = new ArrayList<>(lines.subList(0, limit));
+            return new KeysetPageDto<>(content, limit, String.valueOf(content.get(limit - 1).getEmployeeId()));
+        }
+    }
+} 
\ No newline at end of file
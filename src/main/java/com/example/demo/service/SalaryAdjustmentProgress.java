@@ -0,0 +1,19 @@
+package com.example.demo.service;
+
+// Progress callbacks from SalaryAdjustmentEngine, invoked on the adjusting thread
+public interface SalaryAdjustmentProgress {
+    
+    SalaryAdjustmentProgress NONE = new SalaryAdjustmentProgress() {
+        @Override
+        public void started(int totalEmployees) {
+        }
+        
+        @Override
+        public void processed(int processedEmployees) {
+        }
+    };
+    
+    void started(int totalEmployees);
+    
+    void processed(int processedEmployees);
+} 
\ No newline at end of file
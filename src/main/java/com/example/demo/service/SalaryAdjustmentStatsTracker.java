@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.SalaryAdjustmentTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Running aggregates over salary_adjustments, kept in salary_adjustment_stats. The history table only
+// grows, so the stats endpoint sums one small row per department instead of scanning it on every poll.
+// The rows are written in the adjustment transaction, so every instance sees the same totals and a
+// restart loses nothing.
+@Component
+public class SalaryAdjustmentStatsTracker {
+    
+    private static final String UPDATE_SQL = "UPDATE salary_adjustment_stats SET adjustment_count = adjustment_count + 1, "
+            + "score_sum = score_sum + ?, high_performance = high_performance + ?, "
+            + "medium_performance = medium_performance + ?, low_performance = low_performance + ? WHERE department_id = ?";
+    
+    private static final String INSERT_SQL = "INSERT INTO salary_adjustment_stats (department_id, adjustment_count, "
+            + "score_sum, high_performance, medium_performance, low_performance) VALUES (?, 1, ?, ?, ?, ?)";
+    
+    private static final String TOTALS_SQL = "SELECT SUM(adjustment_count), SUM(score_sum), SUM(high_performance), "
+            + "SUM(medium_performance), SUM(low_performance) FROM salary_adjustment_stats";
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    // Must run in the transaction that inserts the adjustment, while it holds the department row lock;
+    // that lock is what makes the update-then-insert safe across instances
+    public void record(Long departmentId, int performanceScore) {
+        int high = performanceScore >= 90 ? 1 : 0;
+        int medium = performanceScore >= 70 && performanceScore < 90 ? 1 : 0;
+        int low = performanceScore < 70 ? 1 : 0;
+        if (jdbcTemplate.update(UPDATE_SQL, performanceScore, high, medium, low, departmentId) == 0) {
+            jdbcTemplate.update(INSERT_SQL, departmentId, performanceScore, high, medium, low);
+        }
+    }
+    
+    public Map<String, Object> getStats() {
+        SalaryAdjustmentTotals totals = jdbcTemplate.queryForObject(TOTALS_SQL, (rs, rowNum) -> new SalaryAdjustmentTotals(
+                rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+        
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalAdjustments", totals.getCount());
+        
+        if (totals.getCount() > 0) {
+            stats.put("averagePerformanceScore", (double) totals.getScoreSum() / totals.getCount());
+            stats.put("highPerformanceAdjustments", totals.getHighPerformance());
+            stats.put("mediumPerformanceAdjustments", totals.getMediumPerformance());
+            stats.put("lowPerformanceAdjustments", totals.getLowPerformance());
+        }
+        
+        return stats;
+    }
+} 
\ No newline at end of file
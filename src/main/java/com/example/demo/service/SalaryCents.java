@@ -0,0 +1,57 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+
+// Salary arithmetic on long minor units (cents/paisa) with rates in basis points, rounded HALF_UP
+// like BigDecimal.setScale(2, HALF_UP). BigDecimal only appears at the boundary: toCents on the way
+// in and toAmount on the way out.
+final class SalaryCents {
+    
+    static final int BASIS_POINTS = 10_000;
+    
+    // Returned by toCents for amounts the kernel does not handle; callers fall back to BigDecimal
+    static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+    
+    // Keeps cents * multiplier within a long for any multiplier below 200%
+    static final long MAX_CENTS = Long.MAX_VALUE / (2 * BASIS_POINTS);
+    private static final BigDecimal MAX_AMOUNT = BigDecimal.valueOf(MAX_CENTS, 2);
+    
+    private SalaryCents() {}
+    
+    // Exact cents for an amount with at most two significant decimals, otherwise NOT_REPRESENTABLE
+    static long toCents(BigDecimal amount) {
+        if (amount.scale() > 2 && amount.stripTrailingZeros().scale() > 2) {
+            return NOT_REPRESENTABLE;
+        }
+        if (amount.compareTo(MAX_AMOUNT) > 0 || amount.compareTo(MAX_AMOUNT.negate()) < 0) {
+            return NOT_REPRESENTABLE;
+        }
+        return amount.movePointRight(2).longValue();
+    }
+    
+    static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+    
+    // cents * multiplier, capped at capCents before rounding (as the BigDecimal path compares the exact product)
+    static long multiplyCapped(long cents, int multiplierBasisPoints, long capCents) {
+        long product = cents * multiplierBasisPoints;
+        if (product > capCents * BASIS_POINTS) {
+            return capCents;
+        }
+        return roundHalfUp(product);
+    }
+    
+    // Divides by BASIS_POINTS, rounding half away from zero
+    static long roundHalfUp(long basisPointCents) {
+        long quotient = basisPointCents / BASIS_POINTS;
+        long remainder = basisPointCents % BASIS_POINTS;
+        if (remainder >= BASIS_POINTS / 2) {
+            return quotient + 1;
+        }
+        if (remainder <= -BASIS_POINTS / 2) {
+            return quotient - 1;
+        }
+        return quotient;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+import java.math.BigDecimal;
+
+// One employee's salary and department after a change, as written to the salary ledger
+public final class SalaryChange {
+    
+    private final Long employeeId;
+    private final Long departmentId;
+    private final BigDecimal salary;
+    
+    public SalaryChange(Long employeeId, Long departmentId, BigDecimal salary) {
+        this.employeeId = employeeId;
+        this.departmentId = departmentId;
+        this.salary = salary;
+    }
+    
+    // Getters
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+    
+    public Long getDepartmentId() {
+        return departmentId;
+    }
+    
+    public BigDecimal getSalary() {
+        return salary;
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentPayrollDto;
+import com.example.demo.dto.SalaryHistoryEntryDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Append-only salary ledger. Writes join the caller's transaction, so a ledger row commits or rolls back
+// with the change it records. Reads are plain snapshot SELECTs on salary_history only: they take no locks
+// on employees and never wait on, or hold up, the write path.
+@Service
+public class SalaryHistoryService {
+    
+    public enum ChangeType {
+        BASELINE, HIRED, UPDATED, ADJUSTED, TERMINATED
+    }
+    
+    private static final String INSERT_SQL = "INSERT INTO salary_history "
+            + "(employee_id, department_id, salary, change_type, effective_from) VALUES (?, ?, ?, ?, ?)";
+    
+    private static final String ENTRY_SELECT =
+            "SELECT employee_id, department_id, salary, change_type, effective_from FROM salary_history ";
+    
+    // Served backwards by (employee_id, effective_from, id)
+    private static final String AS_OF_SQL = ENTRY_SELECT
+            + "WHERE employee_id = ? AND effective_from < ? ORDER BY effective_from DESC, id DESC FETCH FIRST 1 ROWS ONLY";
+    
+    // A department's rows up to the date that are still each employee's latest row at that date.
+    // The NOT EXISTS probe is an index seek per candidate row on (employee_id, effective_from, id).
+    private static final String PAYROLL_SQL = "SELECT COUNT(*), SUM(h.salary) FROM salary_history h "
+            + "WHERE h.department_id = ? AND h.effective_from < ? AND h.change_type <> 'TERMINATED' "
+            + "AND NOT EXISTS (SELECT 1 FROM salary_history later WHERE later.employee_id = h.employee_id "
+            + "AND later.effective_from < ? AND (later.effective_from > h.effective_from "
+            + "OR (later.effective_from = h.effective_from AND later.id > h.id)))";
+    
+    private static final RowMapper<SalaryHistoryEntryDto> ENTRY_MAPPER = (rs, rowNum) -> new SalaryHistoryEntryDto(
+            rs.getLong("employee_id"), rs.getLong("department_id"), rs.getBigDecimal("salary"),
+            rs.getString("change_type"), rs.getObject("effective_from", LocalDateTime.class));
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    public void record(ChangeType type, SalaryChange change) {
+        jdbcTemplate.update(INSERT_SQL, change.getEmployeeId(), change.getDepartmentId(), change.getSalary(),
+                type.name(), LocalDateTime.now());
+    }
+    
+    // One JDBC batch; callers pass chunks they have already sized (the engine's and the importer's batches)
+    public void recordAll(ChangeType type, List<SalaryChange> changes, LocalDateTime effectiveFrom) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (SalaryChange change : changes) {
+            rows.add(new Object[] { change.getEmployeeId(), change.getDepartmentId(), change.getSalary(),
+                    type.name(), effectiveFrom });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+    
+    // Now, or the department's latest ledger timestamp if the clock is behind it, so a row stamped with it
+    // still sorts after every row already recorded. Served by (department_id, effective_from).
+    public LocalDateTime nextEffectiveFrom(Long departmentId) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime latest = jdbcTemplate.queryForObject(
+                "SELECT MAX(effective_from) FROM salary_history WHERE department_id = ?", LocalDateTime.class, departmentId);
+        return latest != null && latest.isAfter(now) ? latest : now;
+    }
+    
+    // Deleting a department cascades to its employees, so they are terminated in one set-based insert
+    public int recordDepartmentTerminations(Long departmentId) {
+        return jdbcTemplate.update("INSERT INTO salary_history (employee_id, department_id, salary, change_type, effective_from) "
+                + "SELECT id, department_id, salary, ?, ? FROM employees WHERE department_id = ?",
+                ChangeType.TERMINATED.name(), LocalDateTime.now(), departmentId);
+    }
+    
+    public List<SalaryHistoryEntryDto> getHistory(Long employeeId) {
+        return jdbcTemplate.query(ENTRY_SELECT + "WHERE employee_id = ? ORDER BY effective_from, id",
+                ENTRY_MAPPER, employeeId);
+    }
+    
+    // The entry in force at the end of the given day
+    public Optional<SalaryHistoryEntryDto> getEntryAsOf(Long employeeId, LocalDate date) {
+        return jdbcTemplate.query(AS_OF_SQL, ENTRY_MAPPER, employeeId, endOf(date)).stream().findFirst();
+    }
+    
+    // Headcount and payroll of the department at the end of the given day
+    public DepartmentPayrollDto getDepartmentPayrollAsOf(Long departmentId, LocalDate date) {
+        LocalDateTime end = endOf(date);
+        return jdbcTemplate.queryForObject(PAYROLL_SQL, (rs, rowNum) -> new DepartmentPayrollDto(
+                departmentId, date, rs.getLong(1), rs.getBigDecimal(2)), departmentId, end, end);
+    }
+    
+    private static LocalDateTime endOf(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+} 
\ No newline at end of file
@@ -0,0 +1,39 @@
+-- Baseline schema. Databases that were built by ddl-auto=update are baselined at version 1 and skip this script.
+
+-- Pooled sequences: the increment matches the allocationSize of each entity's @SequenceGenerator
+CREATE SEQUENCE departments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE salary_adjustments_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE departments (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    code VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_departments PRIMARY KEY (id),
+    CONSTRAINT uk_departments_code UNIQUE (code)
+);
+
+CREATE TABLE employees (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    salary NUMERIC(10, 2) NOT NULL,
+    joining_date DATE NOT NULL,
+    department_id BIGINT NOT NULL,
+    CONSTRAINT pk_employees PRIMARY KEY (id),
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+-- Created ahead of the foreign key so databases that index foreign keys themselves (H2) reuse it
+CREATE INDEX idx_employees_department_id ON employees (department_id, id);
+
+ALTER TABLE employees ADD CONSTRAINT fk_employees_department FOREIGN KEY (department_id) REFERENCES departments (id);
+
+CREATE TABLE salary_adjustments (
+    id BIGINT NOT NULL,
+    department_id BIGINT NOT NULL,
+    performance_score INTEGER NOT NULL,
+    adjustment_date TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_salary_adjustments PRIMARY KEY (id)
+);
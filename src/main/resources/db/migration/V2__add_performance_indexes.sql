@@ -0,0 +1,14 @@
+-- IF NOT EXISTS: baselined databases skipped V1, and ddl-auto=update may already have created some of these
+
+-- findByDepartmentId, the salary snapshots and the department keyset pages: equality on department, ordered by id
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department_id, id);
+
+-- findEmployeesInDepartmentWithTenure and the department + joining-date search
+CREATE INDEX IF NOT EXISTS idx_employees_department_joining_date ON employees (department_id, joining_date);
+
+-- Name-ordered search pages (ORDER BY name, id)
+CREATE INDEX IF NOT EXISTS idx_employees_name ON employees (name, id);
+
+-- The duplicate-adjustment check: department and score equality, created_at range
+CREATE INDEX IF NOT EXISTS idx_salary_adjustments_dept_score_created
+    ON salary_adjustments (department_id, performance_score, created_at);
@@ -0,0 +1,2 @@
+-- Optimistic locking: every update of an employee row bumps the version, stale writers match no row
+ALTER TABLE employees ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,22 @@
+-- Append-only salary ledger: one row per salary or department change, never updated or deleted.
+-- No foreign key to employees, so a deleted employee keeps their history (ending in a TERMINATED row).
+CREATE TABLE salary_history (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    employee_id BIGINT NOT NULL,
+    department_id BIGINT NOT NULL,
+    salary NUMERIC(10, 2) NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    effective_from TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_salary_history PRIMARY KEY (id)
+);
+
+-- As-of lookups: the latest row of an employee before a point in time is one backward seek.
+-- id breaks ties between rows written in the same instant.
+CREATE INDEX idx_salary_history_employee_effective ON salary_history (employee_id, effective_from, id);
+
+-- Department payroll as of a date: the rows recorded under the department up to that date
+CREATE INDEX idx_salary_history_department_effective ON salary_history (department_id, effective_from);
+
+-- Employees that predate the ledger start from their salary at the time of this migration
+INSERT INTO salary_history (employee_id, department_id, salary, change_type, effective_from)
+SELECT id, department_id, salary, 'BASELINE', CURRENT_TIMESTAMP FROM employees;
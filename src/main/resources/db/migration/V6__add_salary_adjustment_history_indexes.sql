@@ -0,0 +1,5 @@
+-- Salary adjustment history pages, newest first: ORDER BY created_at DESC, id DESC with the keyset bound on the same columns
+CREATE INDEX idx_salary_adjustments_created ON salary_adjustments (created_at DESC, id DESC);
+
+-- The same pages filtered to one department
+CREATE INDEX idx_salary_adjustments_department_created ON salary_adjustments (department_id, created_at DESC, id DESC);
@@ -0,0 +1,22 @@
+-- Running totals behind /employees/salary-adjustments/stats, written in the same transaction as each
+-- salary_adjustments insert. One row per department: that transaction already holds the department's
+-- row lock, so adjustments of different departments never wait on each other here.
+CREATE TABLE salary_adjustment_stats (
+    department_id BIGINT NOT NULL,
+    adjustment_count BIGINT NOT NULL,
+    score_sum BIGINT NOT NULL,
+    high_performance BIGINT NOT NULL,
+    medium_performance BIGINT NOT NULL,
+    low_performance BIGINT NOT NULL,
+    CONSTRAINT pk_salary_adjustment_stats PRIMARY KEY (department_id)
+);
+
+-- Start from the adjustments recorded so far
+INSERT INTO salary_adjustment_stats
+    (department_id, adjustment_count, score_sum, high_performance, medium_performance, low_performance)
+SELECT department_id, COUNT(*), SUM(performance_score),
+       SUM(CASE WHEN performance_score >= 90 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN performance_score >= 70 AND performance_score < 90 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN performance_score < 70 THEN 1 ELSE 0 END)
+FROM salary_adjustments
+GROUP BY department_id;
@@ -0,0 +1,144 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.entity.Department;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Columns written and latency of a one-field edit through PUT (full document) and PATCH (merge patch).
+// Run with: gradle benchmark --tests '*EmployeeUpdateBenchmarkTests' -Dbenchmark.update.employees=5000
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=WARN",
+		"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+		"logging.level.com.example.demo=WARN",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.example.demo.benchmark.EmployeeUpdateBenchmarkTests$UpdateStatementCounter"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+class EmployeeUpdateBenchmarkTests {
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void patchWritesOnlyTheChangedColumns() {
+		int employees = Integer.getInteger("benchmark.update.employees", 2_000);
+		List<EmployeeDto> seeded = seed(employees);
+
+		System.out.printf("%d employees, one name change each%n", employees);
+		System.out.printf("%-10s %8s %14s %10s %10s%n", "operation", "updates", "columns/update", "p50 (ms)", "p99 (ms)");
+		Result put = null;
+		Result patch = null;
+		// The first round warms up both paths and is not reported
+		for (int round = 0; round < 2; round++) {
+			boolean report = round == 1;
+			String suffix = " r" + round;
+			put = measure("PUT", seeded, report, employee -> {
+				employee.setName(employee.getName() + suffix);
+				employeeService.updateEmployee(employee.getId(), employee, null);
+			});
+			patch = measure("PATCH", seeded, report, employee -> {
+				ObjectNode body = objectMapper.createObjectNode().put("name", employee.getName() + suffix + "p");
+				employeeService.patchEmployee(employee.getId(), body, null);
+			});
+		}
+
+		assertEquals(employees, put.updates());
+		assertEquals(employees, patch.updates());
+		// name and version only
+		assertTrue(patch.columnsPerUpdate() <= 2.0, "PATCH wrote " + patch.columnsPerUpdate() + " columns per update");
+	}
+
+	private Result measure(String operation, List<EmployeeDto> employees, boolean report, Consumer<EmployeeDto> update) {
+		UpdateStatementCounter.reset();
+		long[] nanos = new long[employees.size()];
+		for (int i = 0; i < employees.size(); i++) {
+			long start = System.nanoTime();
+			update.accept(employees.get(i));
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+		Result result = new Result(UpdateStatementCounter.UPDATES.get(),
+				(double) UpdateStatementCounter.COLUMNS.get() / Math.max(UpdateStatementCounter.UPDATES.get(), 1));
+		if (report) {
+			System.out.printf("%-10s %8d %14.1f %10.3f %10.3f%n", operation, result.updates(), result.columnsPerUpdate(),
+					percentile(nanos, 0.50), percentile(nanos, 0.99));
+		}
+		return result;
+	}
+
+	private List<EmployeeDto> seed(int employees) {
+		Long departmentId = departmentRepository.save(new Department("Updates", "UPD")).getId();
+		List<Object[]> batch = new ArrayList<>(employees);
+		for (int i = 0; i < employees; i++) {
+			batch.add(new Object[] { "Employee " + i, "update" + i + "@example.com", new BigDecimal("60000.00"),
+					LocalDate.of(2020, 1, 1), departmentId });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, email, salary, joining_date, department_id) "
+				+ "VALUES (NEXT VALUE FOR employees_seq, ?, ?, ?, ?, ?)", batch);
+		return employeeService.getEmployeesByDepartment(departmentId);
+	}
+
+	private static double percentile(long[] sortedNanos, double percentile) {
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1e6;
+	}
+
+	private record Result(long updates, double columnsPerUpdate) {
+	}
+
+	// Counts the UPDATE statements Hibernate prepares for employees and the columns in their SET clause
+	public static class UpdateStatementCounter implements StatementInspector {
+
+		static final AtomicLong UPDATES = new AtomicLong();
+		static final AtomicLong COLUMNS = new AtomicLong();
+
+		static void reset() {
+			UPDATES.set(0);
+			COLUMNS.set(0);
+		}
+
+		@Override
+		public String inspect(String sql) {
+			String normalized = sql.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+			if (normalized.startsWith("update employees set ")) {
+				String assignments = normalized.substring("update employees set ".length(), normalized.indexOf(" where "));
+				UPDATES.incrementAndGet();
+				COLUMNS.addAndGet(assignments.split(",").length);
+			}
+			return sql;
+		}
+	}
+}
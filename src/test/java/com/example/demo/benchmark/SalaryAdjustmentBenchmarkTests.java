@@ -0,0 +1,217 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.SalaryAdjustmentBatchResultDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentPreviewDto;
+import com.example.demo.entity.Department;
+import com.example.demo.entity.Employee;
+import com.example.demo.repository.DepartmentRepository;
+import com.example.demo.repository.EmployeeRepository;
+import com.example.demo.service.EmployeeService;
+import com.example.demo.service.SalaryAdjustmentBatchService;
+import com.example.demo.service.SalaryAdjustmentEngine;
+import com.example.demo.service.SalaryAdjustmentPreviewService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Compares the chunked JDBC batch engine with the original per-row save loop.
+// Run with: gradle benchmark -Dbenchmark.sizes=1000,10000,100000
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=WARN",
+		"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+		"logging.level.com.example.demo=WARN"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+class SalaryAdjustmentBenchmarkTests {
+
+	private static final int PERFORMANCE_SCORE = 95;
+
+	@Autowired
+	private DepartmentRepository departmentRepository;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private SalaryAdjustmentEngine salaryAdjustmentEngine;
+
+	@Autowired
+	private SalaryAdjustmentPreviewService salaryAdjustmentPreviewService;
+
+	@Autowired
+	private SalaryAdjustmentBatchService salaryAdjustmentBatchService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void compareBulkEngineWithPerRowPath() {
+		System.out.printf("%10s %15s %15s %10s%n", "employees", "per-row (ms)", "bulk (ms)", "speedup");
+		for (int size : benchmarkSizes()) {
+			Long departmentId = seedDepartment(size);
+			Map<Long, BigDecimal> original = loadSalaries(departmentId);
+
+			long perRowNanos = time(() -> transactionTemplate.executeWithoutResult(
+					status -> adjustPerRow(departmentId, PERFORMANCE_SCORE)));
+			Map<Long, BigDecimal> perRowResult = loadSalaries(departmentId);
+
+			restoreSalaries(original);
+			long bulkNanos = time(() -> salaryAdjustmentEngine.adjustDepartment(departmentId, PERFORMANCE_SCORE));
+			Map<Long, BigDecimal> bulkResult = loadSalaries(departmentId);
+
+			assertEquals(perRowResult, bulkResult, "bulk engine must produce the same salaries as the per-row path");
+			System.out.printf("%10d %15.1f %15.1f %9.1fx%n", size,
+					perRowNanos / 1e6, bulkNanos / 1e6, (double) perRowNanos / bulkNanos);
+		}
+	}
+
+	// The preview must stay well under a second at 100k employees and predict exactly what the engine writes
+	@Test
+	void previewMatchesAppliedAdjustment() {
+		System.out.printf("%10s %15s %15s%n", "employees", "preview (ms)", "page (ms)");
+		for (int size : benchmarkSizes()) {
+			Long departmentId = seedDepartment(size);
+			SalaryAdjustmentDto request = new SalaryAdjustmentDto(departmentId, PERFORMANCE_SCORE);
+			salaryAdjustmentPreviewService.preview(request, null, null);
+
+			SalaryAdjustmentPreviewDto[] preview = new SalaryAdjustmentPreviewDto[1];
+			long previewNanos = time(() -> preview[0] = salaryAdjustmentPreviewService.preview(request, null, null));
+			long pageNanos = time(() -> salaryAdjustmentPreviewService.preview(request, 0L, 100));
+
+			salaryAdjustmentEngine.adjustDepartment(departmentId, PERFORMANCE_SCORE);
+			BigDecimal payroll = jdbcTemplate.queryForObject(
+					"SELECT SUM(salary) FROM employees WHERE department_id = ?", BigDecimal.class, departmentId);
+			assertEquals(0, preview[0].getAdjustedPayroll().compareTo(payroll), "preview must predict the adjusted payroll");
+			assertEquals(size, preview[0].getHeadcount());
+			System.out.printf("%10d %15.1f %15.1f%n", size, previewNanos / 1e6, pageNanos / 1e6);
+		}
+	}
+
+	// One HTTP call per department today versus the batch endpoint's worker pool, on identical departments.
+	// Run with: gradle benchmark -Dbenchmark.departments=100 -Dbenchmark.department-size=500
+	@Test
+	void compareBatchWithSequentialAdjustments() {
+		int departments = Integer.getInteger("benchmark.departments", 100);
+		int departmentSize = Integer.getInteger("benchmark.department-size", 500);
+		List<SalaryAdjustmentDto> sequential = new ArrayList<>();
+		List<SalaryAdjustmentDto> batch = new ArrayList<>();
+		for (int i = 0; i < departments; i++) {
+			sequential.add(new SalaryAdjustmentDto(seedDepartment("S" + i, departmentSize), PERFORMANCE_SCORE));
+			batch.add(new SalaryAdjustmentDto(seedDepartment("P" + i, departmentSize), PERFORMANCE_SCORE));
+		}
+
+		// Warm up both paths so neither pays for JIT compilation inside its measurement
+		employeeService.adjustSalary(new SalaryAdjustmentDto(seedDepartment("WS", departmentSize), PERFORMANCE_SCORE));
+		salaryAdjustmentBatchService.run(List.of(new SalaryAdjustmentDto(seedDepartment("WP", departmentSize), PERFORMANCE_SCORE)));
+
+		long sequentialNanos = time(() -> sequential.forEach(employeeService::adjustSalary));
+		SalaryAdjustmentBatchResultDto[] result = new SalaryAdjustmentBatchResultDto[1];
+		long batchNanos = time(() -> result[0] = salaryAdjustmentBatchService.run(batch));
+
+		assertEquals((long) departments, result[0].getOutcomes().get("APPLIED"));
+		System.out.printf("%d departments x %d employees: sequential %.1f ms, batch %.1f ms on %d workers (%.1fx)%n",
+				departments, departmentSize, sequentialNanos / 1e6, batchNanos / 1e6, result[0].getParallelism(),
+				(double) sequentialNanos / batchNanos);
+	}
+
+	// The original EmployeeService.adjustSalary loop, kept here as the baseline
+	private void adjustPerRow(Long departmentId, int performanceScore) {
+		BigDecimal maxSalary = new BigDecimal("20000000");
+		BigDecimal tenureBonusPercentage = new BigDecimal("0.05");
+		BigDecimal adjustmentPercentage = performanceScore >= 90 ? new BigDecimal("0.15")
+				: performanceScore >= 70 ? new BigDecimal("0.10") : BigDecimal.ZERO;
+
+		List<Employee> employees = employeeRepository.findByDepartmentId(departmentId);
+		List<Employee> employeesWithTenure = employeeRepository.findEmployeesInDepartmentWithTenure(
+				departmentId, LocalDate.now().minusYears(5));
+
+		for (Employee employee : employees) {
+			BigDecimal newSalary = employee.getSalary();
+			if (adjustmentPercentage.compareTo(BigDecimal.ZERO) > 0) {
+				newSalary = newSalary.add(employee.getSalary().multiply(adjustmentPercentage));
+			}
+			if (employeesWithTenure.contains(employee)) {
+				newSalary = newSalary.add(employee.getSalary().multiply(tenureBonusPercentage));
+			}
+			if (newSalary.compareTo(maxSalary) > 0) {
+				newSalary = maxSalary;
+			}
+			employee.setSalary(newSalary.setScale(2, RoundingMode.HALF_UP));
+			employeeRepository.save(employee);
+		}
+	}
+
+	private Long seedDepartment(int size) {
+		return seedDepartment(String.valueOf(size), size);
+	}
+
+	// key keeps department codes and employee emails unique when several departments share a size
+	private Long seedDepartment(String key, int size) {
+		Department department = departmentRepository.save(new Department("Benchmark " + key, "B" + key));
+		Random random = new Random(size);
+		LocalDate today = LocalDate.now();
+
+		List<Object[]> rows = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			// A small share of salaries sits close to the cap so the cap branch is exercised
+			long rupees = random.nextInt(50) == 0 ? 18_000_000 + random.nextInt(2_000_000) : 30_000 + random.nextInt(500_000);
+			BigDecimal salary = BigDecimal.valueOf(rupees * 100 + random.nextInt(100), 2);
+			LocalDate joiningDate = today.minusDays(random.nextInt(365 * 10));
+			rows.add(new Object[] { "Employee " + i, "bench" + key + "." + i + "@example.com", salary, joiningDate, department.getId() });
+		}
+		jdbcTemplate.batchUpdate(
+				"INSERT INTO employees (id, name, email, salary, joining_date, department_id) VALUES (NEXT VALUE FOR employees_seq, ?, ?, ?, ?, ?)", rows);
+		return department.getId();
+	}
+
+	private Map<Long, BigDecimal> loadSalaries(Long departmentId) {
+		Map<Long, BigDecimal> salaries = new HashMap<>();
+		jdbcTemplate.query("SELECT id, salary FROM employees WHERE department_id = ?",
+				rs -> { salaries.put(rs.getLong(1), rs.getBigDecimal(2)); }, departmentId);
+		return salaries;
+	}
+
+	private void restoreSalaries(Map<Long, BigDecimal> salaries) {
+		List<Object[]> rows = new ArrayList<>(salaries.size());
+		salaries.forEach((id, salary) -> rows.add(new Object[] { salary, id }));
+		jdbcTemplate.batchUpdate("UPDATE employees SET salary = ? WHERE id = ?", rows);
+	}
+
+	private static long time(Runnable action) {
+		long start = System.nanoTime();
+		action.run();
+		return System.nanoTime() - start;
+	}
+
+	private static int[] benchmarkSizes() {
+		return Arrays.stream(System.getProperty("benchmark.sizes", "1000,10000,100000").split(","))
+				.map(String::trim)
+				.mapToInt(Integer::parseInt)
+				.toArray();
+	}
+}
@@ -0,0 +1,130 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.dto.KeysetPageDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
+import com.example.demo.service.EmployeeService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Page latency of GET /employees/salary-adjustments as the history table grows; it should stay flat.
+// Run with: gradle benchmark --tests '*SalaryAdjustmentHistoryBenchmarkTests' -Dbenchmark.history.sizes=10000,100000,1000000
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=WARN",
+		"logging.level.com.example.demo=WARN"
+})
+@ActiveProfiles("test")
+@Tag("benchmark")
+class SalaryAdjustmentHistoryBenchmarkTests {
+
+	private static final int DEPARTMENTS = 200;
+	private static final int WARMUP_QUERIES = 200;
+	private static final int MEASURED_QUERIES = 1000;
+	private static final int PAGE_SIZE = 50;
+	private static final int SEED_BATCH = 10_000;
+	// One adjustment a minute, so a week of history is about 10k rows
+	private static final LocalDateTime NEWEST = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void pageLatencyStaysFlatAsHistoryGrows() {
+		long budgetMillis = Long.getLong("benchmark.history.p99-budget-ms", 50);
+		int[] sizes = Arrays.stream(System.getProperty("benchmark.history.sizes", "10000,100000,1000000").split(","))
+				.map(String::trim)
+				.mapToInt(Integer::parseInt)
+				.toArray();
+
+		Map<String, Function<Random, SalaryAdjustmentSearchCriteria>> scenarios = new LinkedHashMap<>();
+		scenarios.put("latest", random -> new SalaryAdjustmentSearchCriteria());
+		scenarios.put("department", random -> {
+			SalaryAdjustmentSearchCriteria criteria = new SalaryAdjustmentSearchCriteria();
+			criteria.setDepartmentId(1L + random.nextInt(DEPARTMENTS));
+			return criteria;
+		});
+		scenarios.put("last week, score >= 90", random -> {
+			SalaryAdjustmentSearchCriteria criteria = new SalaryAdjustmentSearchCriteria();
+			criteria.setFrom(NEWEST.minusWeeks(1));
+			criteria.setMinScore(90);
+			return criteria;
+		});
+
+		System.out.printf("p99 budget %d ms%n", budgetMillis);
+		System.out.printf("%10s %-24s %10s %10s %10s%n", "rows", "scenario", "p50 (ms)", "p99 (ms)", "page 2 p99");
+		List<String> overBudget = new ArrayList<>();
+		int seeded = 0;
+		for (int size : sizes) {
+			seed(seeded, size);
+			seeded = size;
+			for (Map.Entry<String, Function<Random, SalaryAdjustmentSearchCriteria>> scenario : scenarios.entrySet()) {
+				Random random = new Random(42);
+				for (int i = 0; i < WARMUP_QUERIES; i++) {
+					employeeService.getSalaryAdjustmentHistory(scenario.getValue().apply(random), null, PAGE_SIZE);
+				}
+				long[] firstPage = new long[MEASURED_QUERIES];
+				long[] secondPage = new long[MEASURED_QUERIES];
+				for (int i = 0; i < MEASURED_QUERIES; i++) {
+					SalaryAdjustmentSearchCriteria criteria = scenario.getValue().apply(random);
+					long start = System.nanoTime();
+					KeysetPageDto<SalaryAdjustmentDto> page = employeeService.getSalaryAdjustmentHistory(criteria, null, PAGE_SIZE);
+					firstPage[i] = System.nanoTime() - start;
+					start = System.nanoTime();
+					employeeService.getSalaryAdjustmentHistory(criteria, page.getNextCursor(), PAGE_SIZE);
+					secondPage[i] = System.nanoTime() - start;
+				}
+				Arrays.sort(firstPage);
+				Arrays.sort(secondPage);
+				double p99 = percentile(firstPage, 0.99);
+				double secondP99 = percentile(secondPage, 0.99);
+				System.out.printf("%10d %-24s %10.2f %10.2f %10.2f%n", size, scenario.getKey(),
+						percentile(firstPage, 0.50), p99, secondP99);
+				if (Math.max(p99, secondP99) > budgetMillis) {
+					overBudget.add(size + " " + scenario.getKey());
+				}
+			}
+		}
+		assertTrue(overBudget.isEmpty(), "p99 over " + budgetMillis + " ms for: " + overBudget);
+	}
+
+	// Appends rows from..to-1, newest at NEWEST and one minute apart going back
+	private void seed(int from, int to) {
+		Random random = new Random(to);
+		List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+		for (int i = from; i < to; i++) {
+			Timestamp createdAt = Timestamp.valueOf(NEWEST.minusMinutes(i));
+			batch.add(new Object[] { 1 + random.nextInt(DEPARTMENTS), random.nextInt(101), createdAt, createdAt });
+			if (batch.size() == SEED_BATCH || i == to - 1) {
+				jdbcTemplate.batchUpdate("INSERT INTO salary_adjustments (id, department_id, performance_score, adjustment_date, created_at) "
+						+ "VALUES (NEXT VALUE FOR salary_adjustments_seq, ?, ?, ?, ?)", batch);
+				batch.clear();
+			}
+		}
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	private static double percentile(long[] sortedNanos, double percentile) {
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1e6;
+	}
+}
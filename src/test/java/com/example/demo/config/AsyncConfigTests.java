@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncConfigTests {
+
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private AsyncTaskExecutor applicationTaskExecutor;
+
+	@Autowired
+	private RequestMappingHandlerAdapter requestMappingHandlerAdapter;
+
+	@Test
+	void mvcAsyncRequestsRunOnTheApplicationTaskExecutor() {
+		// Not the salary adjustment pools, and not the unbounded SimpleAsyncTaskExecutor fallback
+		assertSame(applicationTaskExecutor, ReflectionTestUtils.getField(requestMappingHandlerAdapter, "taskExecutor"));
+	}
+}
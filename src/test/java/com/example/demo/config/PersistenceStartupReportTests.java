@@ -0,0 +1,41 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PersistenceStartupReportTests {
+
+	@Autowired
+	private PersistenceStartupReport persistenceStartupReport;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void batchingIsEffectiveForEveryEntity() {
+		assertEquals(List.of(), persistenceStartupReport.validate());
+	}
+
+	@Test
+	void poolIsSizedFromAvailableCores() {
+		int expected = DataSourceConfig.poolSize(Runtime.getRuntime().availableProcessors(), 2, 4);
+		HikariDataSource hikari = (HikariDataSource) dataSource;
+
+		assertEquals(expected, hikari.getMaximumPoolSize());
+		assertEquals(expected, meterRegistry.get("hikaricp.connections.max").tag("pool", "ems-pool").gauge().value());
+	}
+}
@@ -0,0 +1,481 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.entity.SalaryAdjustment;
+import com.example.demo.repository.SalaryAdjustmentRepository;
+import com.example.demo.service.DepartmentService;
+import com.example.demo.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EmployeeControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private SalaryAdjustmentRepository salaryAdjustmentRepository;
+
+	private Long departmentId;
+
+	@BeforeEach
+	void setUp() {
+		departmentId = departmentService.createDepartment(new DepartmentDto(null, "Engineering", "ENG")).getId();
+		for (int i = 0; i < 5; i++) {
+			employeeService.createEmployee(new EmployeeDto(null, "Employee " + i, "employee" + i + "@test.com",
+					new BigDecimal("50000.00"), LocalDate.of(2020, 1, 1), departmentId, null));
+		}
+	}
+
+	@Test
+	void pagesThroughEmployeesWithKeysetCursor() throws Exception {
+		MvcResult first = mockMvc.perform(get("/employees").param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.hasMore").value(true))
+				.andReturn();
+		String cursor = com.jayway.jsonpath.JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+
+		mockMvc.perform(get("/employees").param("limit", "2").param("after", cursor))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].name").value("Employee 2"))
+				.andExpect(jsonPath("$.content[0].departmentName").value("Engineering"));
+
+		mockMvc.perform(get("/employees/department/{id}", departmentId).param("limit", "10"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(5))
+				.andExpect(jsonPath("$.hasMore").value(false));
+	}
+
+	@Test
+	void defaultListContractIsUnchanged() throws Exception {
+		mockMvc.perform(get("/employees"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(5));
+	}
+
+	@Test
+	void rejectsOutOfRangeLimit() throws Exception {
+		mockMvc.perform(get("/employees").param("limit", "0"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void streamsEmployeesAsNdjson() throws Exception {
+		MvcResult result = mockMvc.perform(get("/employees").accept("application/x-ndjson"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType("application/x-ndjson"))
+				.andReturn().getResponse().getContentAsString();
+
+		assertEquals(5, body.lines().count());
+	}
+
+	@Test
+	void streamingUnknownDepartmentReturnsNotFound() throws Exception {
+		mockMvc.perform(get("/employees/department/{id}", 999_999).accept("application/x-ndjson"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void runsSalaryAdjustmentAsAPollableJob() throws Exception {
+		String body = "{\"departmentId\": " + departmentId + ", \"performanceScore\": 91}";
+		MvcResult accepted = mockMvc.perform(post("/employees/adjust-salary/jobs")
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isAccepted())
+				.andExpect(header().exists("Location"))
+				.andReturn();
+		String jobId = com.jayway.jsonpath.JsonPath.read(accepted.getResponse().getContentAsString(), "$.id");
+
+		String status = "QUEUED";
+		for (int attempt = 0; attempt < 100 && (status.equals("QUEUED") || status.equals("RUNNING")); attempt++) {
+			Thread.sleep(50);
+			String job = mockMvc.perform(get("/employees/adjust-salary/jobs/{id}", jobId))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+			status = com.jayway.jsonpath.JsonPath.read(job, "$.status");
+		}
+		assertEquals("COMPLETED", status);
+
+		mockMvc.perform(get("/employees/adjust-salary/jobs/{id}", jobId))
+				.andExpect(jsonPath("$.processedEmployees").value(5))
+				.andExpect(jsonPath("$.totalEmployees").value(5));
+
+		// The duplicate rule is applied before the job is queued
+		mockMvc.perform(post("/employees/adjust-salary/jobs")
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isConflict());
+		mockMvc.perform(get("/employees/adjust-salary/jobs/{id}", "missing"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void runsDepartmentAdjustmentsAsABatch() throws Exception {
+		Long emptyDepartmentId = departmentService.createDepartment(new DepartmentDto(null, "Legal", "LEG")).getId();
+		// The same department twice: the department lock serializes them and the second is a duplicate
+		String body = "{\"adjustments\": ["
+				+ "{\"departmentId\": " + departmentId + ", \"performanceScore\": 95},"
+				+ "{\"departmentId\": " + emptyDepartmentId + ", \"performanceScore\": 95},"
+				+ "{\"departmentId\": 999999, \"performanceScore\": 95},"
+				+ "{\"departmentId\": " + departmentId + ", \"performanceScore\": 95}]}";
+		mockMvc.perform(post("/employees/adjust-salary/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results.length()").value(4))
+				.andExpect(jsonPath("$.results[1].outcome").value("EMPTY"))
+				.andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"))
+				.andExpect(jsonPath("$.outcomes.APPLIED").value(1))
+				.andExpect(jsonPath("$.outcomes.DUPLICATE").value(1))
+				.andExpect(jsonPath("$.adjustedEmployees").value(5))
+				.andExpect(jsonPath("$.parallelism").isNumber());
+		mockMvc.perform(get("/employees/department/{id}", departmentId))
+				.andExpect(jsonPath("$[0].salary").value(60000.00));
+
+		mockMvc.perform(post("/employees/adjust-salary/batch").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"adjustments\": [{\"departmentId\": " + departmentId + ", \"performanceScore\": 101}]}"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(post("/employees/adjust-salary/batch").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"adjustments\": []}"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void previewsSalaryAdjustmentWithoutWriting() throws Exception {
+		String body = "{\"departmentId\": " + departmentId + ", \"performanceScore\": 95}";
+		MvcResult first = mockMvc.perform(post("/employees/adjust-salary/preview").param("limit", "2")
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.headcount").value(5))
+				.andExpect(jsonPath("$.withTenureBonus").value(5))
+				.andExpect(jsonPath("$.capped").value(0))
+				.andExpect(jsonPath("$.currentPayroll").value(250000.00))
+				.andExpect(jsonPath("$.adjustedPayroll").value(300000.00))
+				.andExpect(jsonPath("$.payrollDelta").value(50000.00))
+				.andExpect(jsonPath("$.duplicate").value(false))
+				.andExpect(jsonPath("$.breakdown.content.length()").value(2))
+				.andExpect(jsonPath("$.breakdown.content[0].newSalary").value(60000.00))
+				.andExpect(jsonPath("$.breakdown.hasMore").value(true))
+				.andReturn();
+		String cursor = com.jayway.jsonpath.JsonPath.read(first.getResponse().getContentAsString(), "$.breakdown.nextCursor");
+
+		mockMvc.perform(post("/employees/adjust-salary/preview").param("limit", "2").param("after", cursor)
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.breakdown.content[0].name").value("Employee 2"));
+
+		// Aggregates only without a limit, and nothing was written
+		mockMvc.perform(post("/employees/adjust-salary/preview")
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.breakdown").doesNotExist());
+		mockMvc.perform(get("/employees/department/{id}", departmentId))
+				.andExpect(jsonPath("$[0].salary").value(50000.00))
+				.andExpect(jsonPath("$[0].version").value(0));
+		mockMvc.perform(post("/employees/adjust-salary/preview")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"departmentId\": 999999, \"performanceScore\": 95}"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void pagesSalaryAdjustmentHistoryNewestFirst() throws Exception {
+		LocalDateTime start = LocalDateTime.of(2026, 1, 5, 9, 0);
+		for (int day = 0; day < 6; day++) {
+			SalaryAdjustment adjustment = new SalaryAdjustment(day % 2 == 0 ? departmentId : departmentId + 1, 60 + day * 7);
+			adjustment.setCreatedAt(start.plusDays(day));
+			adjustment.setAdjustmentDate(start.plusDays(day));
+			salaryAdjustmentRepository.save(adjustment);
+		}
+
+		MvcResult first = mockMvc.perform(get("/employees/salary-adjustments").param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].createdAt").value("2026-01-10T09:00:00"))
+				.andExpect(jsonPath("$.content[1].createdAt").value("2026-01-09T09:00:00"))
+				.andExpect(jsonPath("$.content[0].id").isNumber())
+				.andExpect(jsonPath("$.content[0].adjustmentDate").exists())
+				.andExpect(jsonPath("$.hasMore").value(true))
+				.andReturn();
+		String cursor = com.jayway.jsonpath.JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+		mockMvc.perform(get("/employees/salary-adjustments").param("limit", "2").param("after", cursor))
+				.andExpect(jsonPath("$.content[0].createdAt").value("2026-01-08T09:00:00"));
+
+		// Department, score range and a [from, to) window together: days 0, 2 and 4 are this department,
+		// scores 60, 74 and 88, and the window drops day 0
+		mockMvc.perform(get("/employees/salary-adjustments")
+						.param("departmentId", departmentId.toString())
+						.param("minScore", "70").param("maxScore", "90")
+						.param("from", "2026-01-06T00:00:00").param("to", "2026-01-10T00:00:00"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.content[0].performanceScore").value(88))
+				.andExpect(jsonPath("$.content[1].performanceScore").value(74))
+				.andExpect(jsonPath("$.hasMore").value(false));
+
+		mockMvc.perform(get("/employees/salary-adjustments").param("after", "not-a-cursor"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/employees/salary-adjustments").param("minScore", "90").param("maxScore", "70"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void importsJsonArrayAndReportsRowErrors() throws Exception {
+		String body = "["
+				+ "{\"name\": \"New Hire\", \"email\": \"new.hire@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"Existing\", \"email\": \"employee0@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"\", \"email\": \"blank.name@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"Lost\", \"email\": \"lost@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": 999999}"
+				+ "]";
+
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(4))
+				.andExpect(jsonPath("$.importedRows").value(1))
+				.andExpect(jsonPath("$.failedRows").value(3))
+				.andExpect(jsonPath("$.errors[0].row").value(2))
+				.andExpect(jsonPath("$.errors[1].row").value(3))
+				.andExpect(jsonPath("$.errors[2].row").value(4));
+
+		assertEquals(6, employeeService.getAllEmployees().size());
+	}
+
+	@Test
+	@Timeout(value = 30, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+	void continuesJsonImportAfterARowThatDoesNotBind() throws Exception {
+		String body = "["
+				+ "{\"name\": \"Bad Salary\", \"email\": \"bad.salary@test.com\", \"salary\": \"abc\", \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"After One\", \"email\": \"after.one@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"After Two\", \"email\": \"after.two@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "}"
+				+ "]";
+
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(3))
+				.andExpect(jsonPath("$.importedRows").value(2))
+				.andExpect(jsonPath("$.failedRows").value(1))
+				.andExpect(jsonPath("$.errors[0].row").value(1))
+				.andExpect(jsonPath("$.errors[0].message").value(startsWith("Malformed row")));
+
+		assertEquals(7, employeeService.getAllEmployees().size());
+	}
+
+	@Test
+	void importsNothingFromAnEmptyJsonArray() throws Exception {
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content("[]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalRows").value(0))
+				.andExpect(jsonPath("$.importedRows").value(0))
+				.andExpect(jsonPath("$.failedRows").value(0))
+				.andExpect(jsonPath("$.errors.length()").value(0));
+	}
+
+	// A hung import would never return, so the timeout runs the request on its own thread
+	@Test
+	@Timeout(value = 30, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+	void stopsJsonImportAtATruncatedArray() throws Exception {
+		String body = "["
+				+ "{\"name\": \"New Hire\", \"email\": \"new.hire@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "},"
+				+ "{\"name\": \"Cut Off\", \"email\": \"cut";
+
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.importedRows").value(1))
+				.andExpect(jsonPath("$.failedRows").value(1))
+				.andExpect(jsonPath("$.errors[0].row").value(2))
+				.andExpect(jsonPath("$.errors[0].message").value(startsWith("Malformed JSON, import stopped")));
+
+		// Cut off right after an element: the invalid row, then the missing end of the array
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content("[{\"name\": \"a\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.failedRows").value(2))
+				.andExpect(jsonPath("$.errors[1].message").value(startsWith("Malformed JSON, import stopped")));
+
+		assertEquals(6, employeeService.getAllEmployees().size());
+	}
+
+	@Test
+	@Timeout(value = 30, threadMode = Timeout.ThreadMode.SEPARATE_THREAD)
+	void stopsJsonImportAtGarbageBetweenElements() throws Exception {
+		String body = "["
+				+ "{\"name\": \"First\", \"email\": \"first@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "}"
+				+ " oops, not json "
+				+ "{\"name\": \"Second\", \"email\": \"second@test.com\", \"salary\": 60000, \"joiningDate\": \"2024-03-01\", \"departmentId\": " + departmentId + "}"
+				+ "]";
+
+		mockMvc.perform(post("/employees/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.importedRows").value(1))
+				.andExpect(jsonPath("$.failedRows").value(1))
+				.andExpect(jsonPath("$.errors.length()").value(1))
+				.andExpect(jsonPath("$.errors[0].message").value(startsWith("Malformed JSON, import stopped")));
+	}
+
+	@Test
+	void importsCsvWithQuotedFields() throws Exception {
+		String body = "name,email,salary,joiningDate,departmentId\n"
+				+ "\"Doe, Jane\",jane.doe@test.com,70000.50,2023-06-15," + departmentId + "\n"
+				+ "John Roe,john.roe@test.com,not-a-number,2023-06-15," + departmentId + "\n"
+				+ "Jane Again,jane.doe@test.com,70000,2023-06-15," + departmentId + "\n";
+
+		mockMvc.perform(post("/employees/bulk").contentType("text/csv").content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.importedRows").value(1))
+				.andExpect(jsonPath("$.failedRows").value(2))
+				.andExpect(jsonPath("$.errors[1].message").value("Duplicate email within the import"));
+
+		mockMvc.perform(get("/employees/department/{id}", departmentId))
+				.andExpect(jsonPath("$[?(@.email == 'jane.doe@test.com')].name").value("Doe, Jane"));
+	}
+
+	@Test
+	void summarizesPayrollPerDepartment() throws Exception {
+		Long emptyDepartmentId = departmentService.createDepartment(new DepartmentDto(null, "Legal", "LEG")).getId();
+		employeeService.createEmployee(new EmployeeDto(null, "Top Earner", "top@test.com",
+				new BigDecimal("90000.00"), LocalDate.of(2021, 1, 1), departmentId, null));
+
+		mockMvc.perform(get("/employees/summary"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.headcount").value(6))
+				.andExpect(jsonPath("$.totalSalary").value(340000.00))
+				.andExpect(jsonPath("$.averageSalary").value(56666.67))
+				.andExpect(jsonPath("$.minSalary").value(50000.00))
+				.andExpect(jsonPath("$.maxSalary").value(90000.00))
+				.andExpect(jsonPath("$.departments.length()").value(2))
+				.andExpect(jsonPath("$.departments[0].departmentName").value("Engineering"))
+				.andExpect(jsonPath("$.departments[1].departmentId").value(emptyDepartmentId))
+				.andExpect(jsonPath("$.departments[1].headcount").value(0))
+				.andExpect(jsonPath("$.departments[1].averageSalary").value(0));
+	}
+
+	@Test
+	void searchesWithPrefixAndRangeFilters() throws Exception {
+		employeeService.createEmployee(new EmployeeDto(null, "Emp_100%", "special@test.com",
+				new BigDecimal("80000.00"), LocalDate.of(2023, 5, 1), departmentId, null));
+
+		MvcResult first = mockMvc.perform(get("/employees/search").param("name", "Employee").param("limit", "3"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(3))
+				.andExpect(jsonPath("$.hasMore").value(true))
+				.andReturn();
+		String cursor = com.jayway.jsonpath.JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+		mockMvc.perform(get("/employees/search").param("name", "Employee").param("limit", "3").param("after", cursor))
+				.andExpect(jsonPath("$.content.length()").value(2))
+				.andExpect(jsonPath("$.content[0].name").value("Employee 3"))
+				.andExpect(jsonPath("$.content[0].departmentName").value("Engineering"))
+				.andExpect(jsonPath("$.hasMore").value(false));
+
+		// Wildcards in the prefix are matched literally
+		mockMvc.perform(get("/employees/search").param("name", "Emp_"))
+				.andExpect(jsonPath("$.content.length()").value(1))
+				.andExpect(jsonPath("$.content[0].email").value("special@test.com"));
+
+		mockMvc.perform(get("/employees/search")
+						.param("departmentId", String.valueOf(departmentId))
+						.param("joinedFrom", "2021-01-01")
+						.param("minSalary", "60000"))
+				.andExpect(jsonPath("$.content.length()").value(1))
+				.andExpect(jsonPath("$.content[0].name").value("Emp_100%"));
+
+		mockMvc.perform(get("/employees/search").param("email", "employee3@"))
+				.andExpect(jsonPath("$.content[0].name").value("Employee 3"));
+
+		mockMvc.perform(get("/employees/search").param("name", "employee"))
+				.andExpect(jsonPath("$.content.length()").value(0));
+
+		mockMvc.perform(get("/employees/search").param("minSalary", "90000").param("maxSalary", "10000"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void rejectsUpdateWithStaleETag() throws Exception {
+		EmployeeDto employee = employeeService.getEmployeesByDepartment(departmentId).get(0);
+		String body = "{\"name\": \"Renamed\", \"email\": \"" + employee.getEmail() + "\", \"salary\": 51000.00, "
+				+ "\"joiningDate\": \"2020-01-01\", \"departmentId\": " + departmentId + "}";
+
+		mockMvc.perform(get("/employees/{id}", employee.getId()))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"0\""));
+
+		mockMvc.perform(put("/employees/{id}", employee.getId()).header("If-Match", "\"0\"")
+						.contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"1\""))
+				.andExpect(jsonPath("$.version").value(1));
+
+		// A second client still holding version 0 must not overwrite the first edit
+		mockMvc.perform(put("/employees/{id}", employee.getId()).header("If-Match", "\"0\"")
+						.contentType(MediaType.APPLICATION_JSON).content(body.replace("Renamed", "Stale")))
+				.andExpect(status().isPreconditionFailed())
+				.andExpect(header().string("ETag", "\"1\""));
+		assertEquals("Renamed", employeeService.getEmployeeById(employee.getId()).getName());
+	}
+
+	@Test
+	void patchesOnlyTheFieldsInTheMergePatch() throws Exception {
+		EmployeeDto employee = employeeService.getEmployeesByDepartment(departmentId).get(0);
+		MediaType mergePatch = MediaType.parseMediaType("application/merge-patch+json");
+
+		mockMvc.perform(patch("/employees/{id}", employee.getId()).header("If-Match", "\"0\"")
+						.contentType(mergePatch).content("{\"name\": \"Patched\"}"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"1\""))
+				.andExpect(jsonPath("$.name").value("Patched"))
+				.andExpect(jsonPath("$.email").value(employee.getEmail()))
+				.andExpect(jsonPath("$.salary").value(50000.00))
+				.andExpect(jsonPath("$.departmentName").value("Engineering"));
+
+		// null removes a member in merge patch semantics, which a required field cannot allow
+		mockMvc.perform(patch("/employees/{id}", employee.getId())
+						.contentType(mergePatch).content("{\"salary\": null}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.salary").value("Salary is required"));
+		mockMvc.perform(patch("/employees/{id}", employee.getId())
+						.contentType(mergePatch).content("{\"id\": 99}"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(patch("/employees/{id}", employee.getId())
+						.contentType(mergePatch).content("{\"departmentId\": 999999}"))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(patch("/employees/{id}", employee.getId()).header("If-Match", "\"0\"")
+						.contentType(mergePatch).content("{\"name\": \"Stale\"}"))
+				.andExpect(status().isPreconditionFailed());
+
+		assertEquals("Patched", employeeService.getEmployeeById(employee.getId()).getName());
+	}
+}
@@ -0,0 +1,100 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.service.DepartmentService;
+import com.example.demo.service.EmployeeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Fails when a list endpoint starts issuing statements per row (N+1) instead of a fixed number
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class EmployeeQueryCountTests {
+
+	// Existence check plus the select itself
+	private static final long MAX_STATEMENTS_PER_REQUEST = 2;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void listEndpointsIssueAFixedNumberOfStatements() throws Exception {
+		Long departmentId = seed(20, 10);
+
+		assertStatementCount(get("/employees"));
+		assertStatementCount(get("/employees/{id}", 1));
+		assertStatementCount(get("/employees/department/{id}", departmentId));
+		assertStatementCount(get("/employees").param("limit", "50"));
+		assertStatementCount(get("/employees/department/{id}", departmentId).param("limit", "50"));
+		assertStreamedStatementCount(get("/employees").accept("application/x-ndjson"));
+		assertStatementCount(get("/employees/summary"));
+	}
+
+	private Long seed(int departments, int employeesPerDepartment) {
+		Long lastDepartmentId = null;
+		for (int d = 0; d < departments; d++) {
+			lastDepartmentId = departmentService.createDepartment(new DepartmentDto(null, "Department " + d, "D" + d)).getId();
+			for (int e = 0; e < employeesPerDepartment; e++) {
+				employeeService.createEmployee(new EmployeeDto(null, "Employee " + d + "-" + e, "e" + d + "." + e + "@test.com",
+						new BigDecimal("40000.00"), LocalDate.of(2019, 6, 1), lastDepartmentId, null));
+			}
+		}
+		return lastDepartmentId;
+	}
+
+	private void assertStatementCount(RequestBuilder request) throws Exception {
+		Statistics statistics = statistics();
+		statistics.clear();
+		mockMvc.perform(request).andExpect(status().isOk());
+		assertWithinBudget(statistics.getPrepareStatementCount(), request);
+	}
+
+	private void assertStreamedStatementCount(RequestBuilder request) throws Exception {
+		Statistics statistics = statistics();
+		statistics.clear();
+		MvcResult result = mockMvc.perform(request).andReturn();
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+		assertWithinBudget(statistics.getPrepareStatementCount(), request);
+	}
+
+	private void assertWithinBudget(long statements, RequestBuilder request) {
+		assertTrue(statements <= MAX_STATEMENTS_PER_REQUEST,
+				"Expected at most " + MAX_STATEMENTS_PER_REQUEST + " statements but " + statements + " were issued for " + request);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		return statistics;
+	}
+}
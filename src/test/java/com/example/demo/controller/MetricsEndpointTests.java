@@ -0,0 +1,75 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.service.DepartmentService;
+import com.example.demo.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class MetricsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	void recordsSalaryAdjustmentAndRequestMetrics() throws Exception {
+		Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Engineering", "ENG")).getId();
+		employeeService.createEmployee(new EmployeeDto(null, "Veteran", "veteran@test.com",
+				new BigDecimal("19000000.00"), LocalDate.of(2010, 1, 1), departmentId, null));
+		employeeService.createEmployee(new EmployeeDto(null, "Newcomer", "newcomer@test.com",
+				new BigDecimal("50000.00"), LocalDate.now().minusMonths(6), departmentId, null));
+
+		String body = "{\"departmentId\": " + departmentId + ", \"performanceScore\": 95}";
+		mockMvc.perform(post("/employees/adjust-salary").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isOk());
+		mockMvc.perform(post("/employees/adjust-salary").contentType(MediaType.APPLICATION_JSON).content(body))
+				.andExpect(status().isConflict());
+
+		assertEquals(1, meterRegistry.get("salary.adjustment").tag("outcome", "applied").timer().count());
+		assertEquals(1, meterRegistry.get("salary.adjustment").tag("outcome", "duplicate").timer().count());
+		assertEquals(1, meterRegistry.get("salary.adjustment.duplicates").tag("stage", "locked").counter().count());
+		assertEquals(2, meterRegistry.get("salary.adjustment.employees").summary().totalAmount());
+		assertEquals(1, meterRegistry.get("salary.adjustment.tenure.bonuses").counter().count());
+		assertEquals(1, meterRegistry.get("salary.adjustment.capped").counter().count());
+
+		mockMvc.perform(get("/employees/department/{id}", departmentId)).andExpect(status().isOk());
+		assertTrue(meterRegistry.get("spring.data.repository.invocations")
+				.tag("repository", "EmployeeRepository").tag("method", "findDtosByDepartmentId").timer().count() >= 1);
+		assertTrue(meterRegistry.get("department.cache.requests").tag("result", "hit").functionCounter().count() >= 1);
+
+		mockMvc.perform(get("/actuator/metrics/http.server.requests").param("tag", "uri:/employees/department/{departmentId}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.measurements[0].value").value(1.0));
+	}
+}
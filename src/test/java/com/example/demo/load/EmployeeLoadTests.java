@@ -0,0 +1,285 @@
+package com.example.demo.load;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.service.DepartmentService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Mixed read/write traffic from concurrent HTTP clients against the running application.
+// Run with: gradle loadTest -Dload.employees=50000 -Dload.clients=64 -Dload.duration=60
+// Point it at another database with e.g. -Dspring.datasource.url=jdbc:postgresql://localhost:5432/ems_load
+// Logging follows the prod profile; compare against SQL tracing with -Dload.profile=dev
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"logging.file.name=build/logs/load-test.log",
+		"spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@ActiveProfiles(resolver = EmployeeLoadTests.LoadProfiles.class)
+@Tag("load")
+class EmployeeLoadTests {
+
+	private static final int SEED_BATCH = 5_000;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+
+	private final AtomicLong createdEmployees = new AtomicLong();
+
+	private List<Long> departmentIds;
+	private long[] employeeIds;
+
+	@Test
+	void mixedTrafficReport() throws Exception {
+		int departments = Integer.getInteger("load.departments", 20);
+		int employees = Integer.getInteger("load.employees", 10_000);
+		int clients = Integer.getInteger("load.clients", 32);
+		long warmupSeconds = Long.getLong("load.warmup", 5);
+		long durationSeconds = Long.getLong("load.duration", 30);
+		seed(departments, employees);
+
+		List<Operation> mix = trafficMix();
+		int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+
+		long start = System.nanoTime();
+		long measureFrom = start + Duration.ofSeconds(warmupSeconds).toNanos();
+		long end = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+
+		ExecutorService pool = Executors.newFixedThreadPool(clients);
+		List<Future<List<Sample>>> results = new ArrayList<>();
+		for (int c = 0; c < clients; c++) {
+			Random random = new Random(c);
+			results.add(pool.submit(() -> runClient(mix, totalWeight, random, measureFrom, end)));
+		}
+		List<Sample> samples = new ArrayList<>();
+		for (Future<List<Sample>> result : results) {
+			samples.addAll(result.get());
+		}
+		pool.shutdown();
+
+		Map<String, List<Sample>> byEndpoint = new TreeMap<>();
+		for (Sample sample : samples) {
+			byEndpoint.computeIfAbsent(sample.endpoint(), key -> new ArrayList<>()).add(sample);
+		}
+		long serverErrors = samples.stream().filter(sample -> sample.status() >= 500 || sample.status() < 0).count();
+		report(byEndpoint, samples, durationSeconds, clients, departments, employees);
+
+		assertEquals(0, serverErrors, "requests failed with 5xx or I/O errors");
+	}
+
+	private List<Operation> trafficMix() {
+		List<Operation> mix = new ArrayList<>();
+		mix.add(new Operation("GET /employees/{id}", 25, random -> get("/employees/" + randomEmployeeId(random))));
+		mix.add(new Operation("GET /employees?limit=100", 10, random -> get("/employees?limit=100&after=" + randomEmployeeId(random))));
+		mix.add(new Operation("GET /employees/department/{id}?limit=100", 10,
+				random -> get("/employees/department/" + randomDepartmentId(random) + "?limit=100")));
+		mix.add(new Operation("GET /employees/search?name=", 10,
+				random -> get("/employees/search?name=Load%20" + random.nextInt(1000) + "&limit=50")));
+		mix.add(new Operation("GET /employees/summary", 5, random -> get("/employees/summary")));
+		mix.add(new Operation("GET /employees", 1, random -> get("/employees")));
+		mix.add(new Operation("GET /departments", 10, random -> get("/departments")));
+		mix.add(new Operation("GET /departments/{id}", 10, random -> get("/departments/" + randomDepartmentId(random))));
+		mix.add(new Operation("POST /employees", 8, random -> {
+			long n = createdEmployees.incrementAndGet();
+			return post("/employees", employeeJson("New " + n, "load.new" + n + "@example.com", randomDepartmentId(random)));
+		}));
+		mix.add(new Operation("PUT /employees/{id}", 8, random -> {
+			long id = randomEmployeeId(random);
+			return put("/employees/" + id, employeeJson("Load " + id, "load.updated" + id + "@example.com", randomDepartmentId(random)));
+		}));
+		// Most of these hit the duplicate window and come back 409, which is the expected steady state
+		mix.add(new Operation("POST /employees/adjust-salary", 3, random -> post("/employees/adjust-salary",
+				"{\"departmentId\": " + randomDepartmentId(random) + ", \"performanceScore\": " + random.nextInt(101) + "}")));
+		return mix;
+	}
+
+	private List<Sample> runClient(List<Operation> mix, int totalWeight, Random random, long measureFrom, long end) {
+		List<Sample> samples = new ArrayList<>();
+		while (System.nanoTime() < end) {
+			Operation operation = pick(mix, totalWeight, random);
+			HttpRequest request = operation.request().build(random);
+			long started = System.nanoTime();
+			int status;
+			try {
+				status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			} catch (IOException e) {
+				status = -1;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			long finished = System.nanoTime();
+			if (started >= measureFrom) {
+				samples.add(new Sample(operation.name(), finished - started, status));
+			}
+		}
+		return samples;
+	}
+
+	private void report(Map<String, List<Sample>> byEndpoint, List<Sample> all, long durationSeconds,
+						int clients, int departments, int employees) throws IOException {
+		List<String> rows = new ArrayList<>();
+		rows.add("endpoint,requests,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms,status_4xx,status_5xx_or_io");
+		System.out.printf("%d clients, %d departments, %d employees, %d s measured, profile %s%n",
+				clients, departments, employees, durationSeconds, loadProfile());
+		System.out.printf("%-42s %9s %9s %8s %8s %8s %8s %6s %6s%n",
+				"endpoint", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "4xx", "5xx");
+		byEndpoint.forEach((endpoint, samples) -> rows.add(printRow(endpoint, samples, durationSeconds)));
+		rows.add(printRow("TOTAL", all, durationSeconds));
+
+		Path reportFile = Path.of(System.getProperty("load.report-file", "build/reports/load-test/summary.csv"));
+		Files.createDirectories(reportFile.toAbsolutePath().getParent());
+		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportFile))) {
+			rows.forEach(writer::println);
+		}
+		System.out.println("Report written to " + reportFile.toAbsolutePath());
+	}
+
+	private String printRow(String endpoint, List<Sample> samples, long durationSeconds) {
+		long[] nanos = samples.stream().mapToLong(Sample::nanos).sorted().toArray();
+		long clientErrors = samples.stream().filter(sample -> sample.status() >= 400 && sample.status() < 500).count();
+		long serverErrors = samples.stream().filter(sample -> sample.status() >= 500 || sample.status() < 0).count();
+		double throughput = (double) samples.size() / durationSeconds;
+		double p50 = percentile(nanos, 0.50);
+		double p95 = percentile(nanos, 0.95);
+		double p99 = percentile(nanos, 0.99);
+		double max = nanos.length > 0 ? nanos[nanos.length - 1] / 1e6 : 0;
+		System.out.printf("%-42s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %6d %6d%n",
+				endpoint, samples.size(), throughput, p50, p95, p99, max, clientErrors, serverErrors);
+		return String.format("\"%s\",%d,%.1f,%.2f,%.2f,%.2f,%.2f,%d,%d",
+				endpoint, samples.size(), throughput, p50, p95, p99, max, clientErrors, serverErrors);
+	}
+
+	private void seed(int departments, int employees) {
+		departmentIds = new ArrayList<>(departments);
+		for (int d = 0; d < departments; d++) {
+			departmentIds.add(departmentService.createDepartment(new DepartmentDto(null, "Load " + d, "L" + d)).getId());
+		}
+		Random random = new Random(42);
+		LocalDate today = LocalDate.now();
+		List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+		for (int i = 0; i < employees; i++) {
+			batch.add(new Object[] { "Load " + i, "load" + i + "@example.com",
+					BigDecimal.valueOf(30_000 + random.nextInt(500_000)), today.minusDays(random.nextInt(3650)),
+					departmentIds.get(random.nextInt(departments)) });
+			if (batch.size() == SEED_BATCH || i == employees - 1) {
+				jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, email, salary, joining_date, department_id) "
+						+ "VALUES (NEXT VALUE FOR employees_seq, ?, ?, ?, ?, ?)", batch);
+				batch.clear();
+			}
+		}
+		// The pooled sequence leaves gaps, so pick from the ids that actually exist
+		employeeIds = jdbcTemplate.queryForList("SELECT id FROM employees", Long.class).stream()
+				.mapToLong(Long::longValue)
+				.toArray();
+	}
+
+	private long randomEmployeeId(Random random) {
+		return employeeIds[random.nextInt(employeeIds.length)];
+	}
+
+	private long randomDepartmentId(Random random) {
+		return departmentIds.get(random.nextInt(departmentIds.size()));
+	}
+
+	private static String employeeJson(String name, String email, long departmentId) {
+		return "{\"name\": \"" + name + "\", \"email\": \"" + email + "\", \"salary\": 55000.00, "
+				+ "\"joiningDate\": \"2022-04-01\", \"departmentId\": " + departmentId + "}";
+	}
+
+	private HttpRequest.Builder request(String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+	}
+
+	private HttpRequest get(String path) {
+		return request(path).GET().build();
+	}
+
+	private HttpRequest post(String path, String json) {
+		return request(path).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json)).build();
+	}
+
+	private HttpRequest put(String path, String json) {
+		return request(path).header("Content-Type", "application/json").PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+	}
+
+	private static String loadProfile() {
+		return System.getProperty("load.profile", "prod");
+	}
+
+	// The test datasource plus the logging setup being measured
+	static class LoadProfiles implements ActiveProfilesResolver {
+
+		@Override
+		public String[] resolve(Class<?> testClass) {
+			return new String[] { "test", loadProfile() };
+		}
+	}
+
+	private static Operation pick(List<Operation> mix, int totalWeight, Random random) {
+		int roll = random.nextInt(totalWeight);
+		for (Operation operation : mix) {
+			roll -= operation.weight();
+			if (roll < 0) {
+				return operation;
+			}
+		}
+		return mix.get(mix.size() - 1);
+	}
+
+	private static double percentile(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1e6;
+	}
+
+	private interface RequestFactory {
+		HttpRequest build(Random random);
+	}
+
+	private record Operation(String name, int weight, RequestFactory request) {
+	}
+
+	private record Sample(String endpoint, long nanos, int status) {
+	}
+}
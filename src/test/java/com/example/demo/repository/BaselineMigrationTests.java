@@ -0,0 +1,131 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.service.DepartmentService;
+import com.example.demo.service.EmployeeService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Adopting a database from before Flyway: the tables ddl-auto=update built from the original entities,
+// with IDENTITY ids, rows in use and none of the sequences. Baselined at V1, it must pick up the
+// sequence alignment and every later migration, then pass ddl-auto=validate and hand out fresh ids.
+@SpringBootTest(properties = "spring.flyway.ignore-migration-patterns=*:missing")
+@ActiveProfiles("test")
+// Public so that H2 can call the setval alias below
+public class BaselineMigrationTests {
+
+	private static final String URL = "jdbc:h2:mem:baseline-" + UUID.randomUUID()
+			+ ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+	private static final int DEPARTMENTS = 120;
+	private static final int EMPLOYEES = 300;
+	private static final int ADJUSTMENTS = 75;
+
+	private static final List<String> BASELINE_SCHEMA = List.of(
+			"CREATE TABLE departments (id BIGINT GENERATED BY DEFAULT AS IDENTITY, code VARCHAR(255) NOT NULL, "
+					+ "name VARCHAR(255) NOT NULL, PRIMARY KEY (id), UNIQUE (code))",
+			"CREATE TABLE employees (id BIGINT GENERATED BY DEFAULT AS IDENTITY, email VARCHAR(255) NOT NULL, "
+					+ "joining_date DATE NOT NULL, name VARCHAR(255) NOT NULL, salary NUMERIC(10, 2) NOT NULL, "
+					+ "department_id BIGINT NOT NULL, PRIMARY KEY (id), UNIQUE (email))",
+			"CREATE TABLE salary_adjustments (id BIGINT GENERATED BY DEFAULT AS IDENTITY, adjustment_date TIMESTAMP(6) NOT NULL, "
+					+ "created_at TIMESTAMP(6) NOT NULL, department_id BIGINT NOT NULL, performance_score INTEGER NOT NULL, "
+					+ "PRIMARY KEY (id))",
+			"ALTER TABLE employees ADD CONSTRAINT fk_baseline_department FOREIGN KEY (department_id) REFERENCES departments");
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void adoptBaselineDatabase(DynamicPropertyRegistry registry) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			for (String sql : BASELINE_SCHEMA) {
+				statement.execute(sql);
+			}
+			// Ids come from the identity columns, as they did before. SYSTEM_RANGE keeps its upper-case column name.
+			statement.execute("INSERT INTO departments (code, name) SELECT 'D' || \"X\", 'Department ' || \"X\" "
+					+ "FROM SYSTEM_RANGE(1, " + DEPARTMENTS + ")");
+			statement.execute("INSERT INTO employees (email, joining_date, name, salary, department_id) "
+					+ "SELECT 'employee' || \"X\" || '@test.com', DATE '2020-01-01', 'Employee ' || \"X\", 50000, MOD(\"X\", " + DEPARTMENTS + ") + 1 "
+					+ "FROM SYSTEM_RANGE(1, " + EMPLOYEES + ")");
+			statement.execute("INSERT INTO salary_adjustments (adjustment_date, created_at, department_id, performance_score) "
+					+ "SELECT TIMESTAMP '2024-01-01 00:00:00', TIMESTAMP '2024-01-01 00:00:00', \"X\", 80 "
+					+ "FROM SYSTEM_RANGE(1, " + ADJUSTMENTS + ")");
+			statement.execute("CREATE ALIAS setval FOR '" + BaselineMigrationTests.class.getName() + ".setval'");
+		}
+		// V1_1 lives with the PostgreSQL scripts, next to V3 and V8, which H2 cannot run. Apply the vendor
+		// scripts up to V2 here; the application's Flyway then carries on with the shared ones.
+		Flyway.configure()
+				.dataSource(URL, "sa", "")
+				.locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+				.baselineOnMigrate(true)
+				.target("2")
+				.load()
+				.migrate();
+		registry.add("spring.datasource.url", () -> URL);
+	}
+
+	// PostgreSQL's setval(sequence, value, false) for V1_1: the next nextval returns value
+	public static long setval(Connection connection, String sequence, long value, boolean isCalled) throws SQLException {
+		if (isCalled) {
+			throw new SQLException("Only setval(sequence, value, false) is emulated");
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + value);
+		}
+		return value;
+	}
+
+	@Test
+	void adoptedDatabaseIsBaselinedAndMigrated() {
+		List<String> versions = jdbcTemplate.queryForList(
+				"SELECT version FROM flyway_schema_history WHERE success AND version IS NOT NULL ORDER BY installed_rank", String.class);
+		assertEquals(List.of("1", "1.1", "2", "4", "5", "6", "7"), versions);
+
+		// V5 and V7 start from the adopted rows
+		assertEquals(EMPLOYEES, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM salary_history WHERE change_type = 'BASELINE'", Integer.class));
+		assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM salary_adjustments", Long.class),
+				employeeService.getSalaryAdjustmentStats().get("totalAdjustments"));
+	}
+
+	@Test
+	void newRowsGetIdsPastTheAdoptedOnes() {
+		Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Adopted", "ADOPTED")).getId();
+		Long employeeId = employeeService.createEmployee(new EmployeeDto(null, "New Hire", "new.hire@test.com",
+				new BigDecimal("60000.00"), LocalDate.of(2024, 1, 1), departmentId, null)).getId();
+		employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, 85));
+		Long adjustmentId = jdbcTemplate.queryForObject(
+				"SELECT id FROM salary_adjustments WHERE department_id = ?", Long.class, departmentId);
+
+		assertTrue(departmentId > DEPARTMENTS, "department id " + departmentId);
+		assertTrue(employeeId > EMPLOYEES, "employee id " + employeeId);
+		assertTrue(adjustmentId > ADJUSTMENTS, "adjustment id " + adjustmentId);
+	}
+}
@@ -0,0 +1,218 @@
+package com.example.demo.repository;
+
+import com.example.demo.dto.EmployeeSearchCriteria;
+import com.example.demo.dto.SalaryAdjustmentSearchCriteria;
+import com.example.demo.service.SalaryHistoryService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// EXPLAIN on the migrated H2 schema: the hot queries must be served by their indexes, not by scanning
+// the table. Each test runs the real repository or service method and explains the SQL it sent, so the
+// assertions follow the queries when they change.
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class QueryPlanTests {
+
+	private static final int DEPARTMENTS = 20;
+	private static final int EMPLOYEES = 5_000;
+
+	@MockitoSpyBean
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private SqlCapture sqlCapture;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private SalaryAdjustmentRepository salaryAdjustmentRepository;
+
+	@Autowired
+	private SalaryHistoryService salaryHistoryService;
+
+	@BeforeEach
+	void seed() {
+		if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Long.class) > 0) {
+			return;
+		}
+		List<Object[]> departments = new ArrayList<>();
+		for (int d = 1; d <= DEPARTMENTS; d++) {
+			departments.add(new Object[] { d, "Department " + d, "D" + d });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO departments (id, name, code) VALUES (?, ?, ?)", departments);
+
+		List<Object[]> employees = new ArrayList<>();
+		List<Object[]> adjustments = new ArrayList<>();
+		List<Object[]> history = new ArrayList<>();
+		LocalDate today = LocalDate.now();
+		for (int i = 1; i <= EMPLOYEES; i++) {
+			employees.add(new Object[] { i, "Employee " + i, "employee" + i + "@example.com", 50_000 + i,
+					Date.valueOf(today.minusDays(i % 3650)), 1 + i % DEPARTMENTS });
+			Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now().minusMinutes(i));
+			adjustments.add(new Object[] { i, 1 + i % DEPARTMENTS, i % 101, createdAt, createdAt });
+			history.add(new Object[] { i, 1 + i % DEPARTMENTS, 50_000 + i, "HIRED", createdAt });
+			history.add(new Object[] { i, 1 + i % DEPARTMENTS, 55_000 + i, "ADJUSTED", Timestamp.valueOf(LocalDateTime.now()) });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, email, salary, joining_date, department_id) "
+				+ "VALUES (?, ?, ?, ?, ?, ?)", employees);
+		jdbcTemplate.batchUpdate("INSERT INTO salary_adjustments (id, department_id, performance_score, adjustment_date, created_at) "
+				+ "VALUES (?, ?, ?, ?, ?)", adjustments);
+		jdbcTemplate.batchUpdate("INSERT INTO salary_history (employee_id, department_id, salary, change_type, effective_from) "
+				+ "VALUES (?, ?, ?, ?, ?)", history);
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void employeesByDepartmentUseDepartmentIndex() {
+		// H2 also indexes the foreign key itself and may pick that one, so only the lookup column is checked
+		assertUsesIndex("department_id = ?1",
+				captureSql("from employees", () -> employeeRepository.findSalarySnapshotsByDepartmentId(7L)), 7);
+		assertUsesIndex("idx_employees_department_id:",
+				captureSql("from employees", () -> employeeRepository.findDtoPageByDepartmentAfter(7L, 1_000L, Limit.of(100))),
+				7, 1_000, 100);
+	}
+
+	@Test
+	void tenureQueryUsesDepartmentJoiningDateIndex() {
+		LocalDate fiveYearsAgo = LocalDate.now().minusYears(5);
+		assertUsesIndex("idx_employees_department_joining_date:",
+				captureSql("from employees", () -> employeeRepository.findEmployeesInDepartmentWithTenure(7L, fiveYearsAgo)),
+				7, Date.valueOf(fiveYearsAgo));
+	}
+
+	@Test
+	void duplicateAdjustmentCheckUsesCompositeIndex() {
+		LocalDateTime windowStart = LocalDateTime.now().minusMinutes(30);
+		assertUsesIndex("idx_salary_adjustments_dept_score_created:",
+				captureSql("from salary_adjustments", () -> salaryAdjustmentRepository
+						.existsByDepartmentIdAndPerformanceScoreAndCreatedAtAfter(7L, 85, windowStart)),
+				7, 85, Timestamp.valueOf(windowStart), 1);
+	}
+
+	@Test
+	void namePrefixSearchUsesNameIndex() {
+		EmployeeSearchCriteria criteria = new EmployeeSearchCriteria();
+		criteria.setName("Employee 12");
+		assertUsesIndex("idx_employees_name:",
+				captureSql("from employees", () -> employeeRepository.searchDtos(criteria, EmployeeSearchOrder.NAME, null, null, 51)),
+				"Employee 12%", 51);
+		assertUsesIndex("idx_employees_name:",
+				captureSql("from employees", () -> employeeRepository.searchDtos(criteria, EmployeeSearchOrder.NAME, "Employee 120", 120L, 51)),
+				"Employee 12%", "Employee 120", "Employee 120", 120, 51);
+	}
+
+	@Test
+	void adjustmentHistoryPagesUseCreatedAtIndexes() {
+		LocalDateTime after = LocalDateTime.now().minusMinutes(2_000);
+		assertUsesIndex("idx_salary_adjustments_created:",
+				captureSql("from salary_adjustments", () -> salaryAdjustmentRepository
+						.findHistoryPage(new SalaryAdjustmentSearchCriteria(), after, 2_000L, 51)),
+				Timestamp.valueOf(after), Timestamp.valueOf(after), 2_000, 51);
+		SalaryAdjustmentSearchCriteria department = new SalaryAdjustmentSearchCriteria();
+		department.setDepartmentId(7L);
+		department.setFrom(after);
+		assertUsesIndex("idx_salary_adjustments_department_created:",
+				captureSql("from salary_adjustments", () -> salaryAdjustmentRepository.findHistoryPage(department, null, null, 51)),
+				7, Timestamp.valueOf(after), 51);
+	}
+
+	@Test
+	void salaryAsOfLookupsUseLedgerIndexes() {
+		LocalDate asOf = LocalDate.now();
+		Timestamp endOfDay = Timestamp.valueOf(asOf.plusDays(1).atStartOfDay());
+		assertUsesIndex("idx_salary_history_employee_effective:",
+				captureSql("from salary_history", () -> salaryHistoryService.getEntryAsOf(42L, asOf)), 42, endOfDay);
+		// Department payroll: the department index for the candidates, the employee index for the NOT EXISTS probe
+		String payroll = captureSql("from salary_history", () -> salaryHistoryService.getDepartmentPayrollAsOf(7L, asOf));
+		assertUsesIndex("idx_salary_history_department_effective:", payroll, 7, endOfDay, endOfDay);
+		assertUsesIndex("idx_salary_history_employee_effective:", payroll, 7, endOfDay, endOfDay);
+	}
+
+	// Runs the real repository or service call and returns the one statement it sent that reads the table:
+	// Hibernate's SQL from the statement inspector, the ledger's from the JdbcTemplate calls
+	private String captureSql(String fromTable, Runnable call) {
+		sqlCapture.clear();
+		Mockito.clearInvocations(jdbcTemplate);
+		call.run();
+		List<String> statements = new ArrayList<>(sqlCapture.statements());
+		Mockito.mockingDetails(jdbcTemplate).getInvocations().forEach(invocation -> {
+			if (invocation.getArguments().length > 0 && invocation.getArguments()[0] instanceof String sql) {
+				statements.add(sql);
+			}
+		});
+		List<String> matching = statements.stream()
+				.filter(sql -> sql.toLowerCase(Locale.ROOT).contains(fromTable))
+				.distinct()
+				.toList();
+		assertEquals(1, matching.size(), () -> "expected one statement " + fromTable + ", got " + statements);
+		return matching.get(0);
+	}
+
+	// H2 names the chosen index and its lookup condition in a comment after each table, e.g. /* public.idx_x: a = ?1 */
+	private void assertUsesIndex(String expected, String sql, Object... args) {
+		String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+		assertTrue(plan.contains(expected), () -> "expected " + expected + " in plan:\n" + plan);
+		assertFalse(plan.contains("tableScan"), () -> "unexpected table scan in plan:\n" + plan);
+	}
+
+	static class SqlCapture implements StatementInspector {
+
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		List<String> statements() {
+			return statements;
+		}
+
+		void clear() {
+			statements.clear();
+		}
+	}
+
+	@TestConfiguration
+	static class SqlCaptureConfiguration {
+
+		@Bean
+		SqlCapture sqlCapture() {
+			return new SqlCapture();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer sqlCaptureInspector(SqlCapture sqlCapture) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.entity.SalaryAdjustment;
+import com.example.demo.exception.DuplicateAdjustmentException;
+import com.example.demo.repository.SalaryAdjustmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AdjustmentIdempotencyGuardTests {
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private AdjustmentIdempotencyGuard idempotencyGuard;
+
+	@Autowired
+	private SalaryAdjustmentRepository salaryAdjustmentRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void recentAdjustmentIsRejectedWithoutTouchingTheDatabase() {
+		Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Support", "SUP")).getId();
+		employeeService.createEmployee(new EmployeeDto(null, "Ada", "ada@test.com",
+				new BigDecimal("50000.00"), LocalDate.of(2024, 1, 1), departmentId, null));
+		employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, 92));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		assertTrue(idempotencyGuard.isDuplicate(departmentId, 92));
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		assertThrows(DuplicateAdjustmentException.class,
+				() -> employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, 92)));
+		assertFalse(idempotencyGuard.isDuplicate(departmentId, 75));
+	}
+
+	@Test
+	void databaseRemainsTheSourceOfTruthOnAMiss() {
+		// Written behind the guard's back, as another instance or a previous run would have
+		salaryAdjustmentRepository.save(new SalaryAdjustment(42L, 88));
+
+		assertTrue(idempotencyGuard.isDuplicate(42L, 88));
+		assertFalse(idempotencyGuard.isDuplicate(42L, 87));
+	}
+}
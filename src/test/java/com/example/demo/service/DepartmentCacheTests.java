@@ -0,0 +1,66 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "app.department-cache.max-size=2")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DepartmentCacheTests {
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private DepartmentCache departmentCache;
+
+	@Test
+	void repeatedReadsAreServedFromCache() {
+		Long id = departmentService.createDepartment(new DepartmentDto(null, "Finance", "FIN")).getId();
+		Map<String, Object> before = departmentCache.getStats();
+
+		departmentService.getDepartmentById(id);
+		departmentService.getDepartmentById(id);
+		departmentService.getDepartmentById(id);
+
+		Map<String, Object> after = departmentCache.getStats();
+		assertEquals(1L, (long) after.get("misses") - (long) before.get("misses"));
+		assertEquals(2L, (long) after.get("hits") - (long) before.get("hits"));
+	}
+
+	@Test
+	void writesInvalidateCachedEntries() {
+		Long id = departmentService.createDepartment(new DepartmentDto(null, "Finance", "FIN")).getId();
+		departmentService.getDepartmentById(id);
+
+		departmentService.updateDepartment(id, new DepartmentDto(null, "Treasury", "TRS"));
+		assertEquals("Treasury", departmentService.getDepartmentById(id).getName());
+
+		departmentService.deleteDepartment(id);
+		assertThrows(RuntimeException.class, () -> departmentService.getDepartmentById(id));
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedEntryBeyondCapacity() {
+		Long first = departmentService.createDepartment(new DepartmentDto(null, "Finance", "FIN")).getId();
+		Long second = departmentService.createDepartment(new DepartmentDto(null, "Sales", "SAL")).getId();
+		Long third = departmentService.createDepartment(new DepartmentDto(null, "Legal", "LEG")).getId();
+
+		departmentService.getDepartmentById(first);
+		departmentService.getDepartmentById(second);
+		departmentService.getDepartmentById(third);
+
+		Map<String, Object> stats = departmentCache.getStats();
+		assertEquals(2, stats.get("size"));
+		assertEquals(1L, stats.get("evictions"));
+	}
+}
@@ -0,0 +1,162 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.exception.DuplicateAdjustmentException;
+import com.example.demo.repository.SalaryAdjustmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Fires many simultaneous adjustments at a few departments; each employee must be raised exactly once
+@SpringBootTest(properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=WARN",
+		"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+		"logging.level.com.example.demo=WARN"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SalaryAdjustmentConcurrencyTests {
+
+	private static final int DEPARTMENTS = 4;
+	private static final int EMPLOYEES_PER_DEPARTMENT = 25;
+	private static final int REQUESTS_PER_DEPARTMENT = 100;
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private SalaryAdjustmentRepository salaryAdjustmentRepository;
+
+	@Autowired
+	private SalaryAdjustmentEngine salaryAdjustmentEngine;
+
+	@Autowired
+	private SalaryHistoryService salaryHistoryService;
+
+	@Test
+	void concurrentRequestsAdjustEachEmployeeExactlyOnce() throws Exception {
+		List<Long> departmentIds = new ArrayList<>();
+		for (int d = 0; d < DEPARTMENTS; d++) {
+			Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Department " + d, "C" + d)).getId();
+			departmentIds.add(departmentId);
+			for (int e = 0; e < EMPLOYEES_PER_DEPARTMENT; e++) {
+				employeeService.createEmployee(new EmployeeDto(null, "Employee " + d + "-" + e, "c" + d + "." + e + "@test.com",
+						new BigDecimal("10000.00"), LocalDate.now().minusYears(1), departmentId, null));
+			}
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(64);
+		CountDownLatch startGate = new CountDownLatch(1);
+		AtomicInteger applied = new AtomicInteger();
+		AtomicInteger duplicates = new AtomicInteger();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int r = 0; r < REQUESTS_PER_DEPARTMENT; r++) {
+			for (Long departmentId : departmentIds) {
+				futures.add(executor.submit(() -> {
+					startGate.await();
+					try {
+						employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, 95));
+						applied.incrementAndGet();
+					} catch (DuplicateAdjustmentException e) {
+						duplicates.incrementAndGet();
+					}
+					return null;
+				}));
+			}
+		}
+		startGate.countDown();
+		for (Future<?> future : futures) {
+			future.get(60, TimeUnit.SECONDS);
+		}
+		executor.shutdown();
+
+		assertEquals(DEPARTMENTS, applied.get());
+		assertEquals(DEPARTMENTS * (REQUESTS_PER_DEPARTMENT - 1), duplicates.get());
+		assertEquals(DEPARTMENTS, salaryAdjustmentRepository.count());
+		for (Long departmentId : departmentIds) {
+			for (EmployeeDto employee : employeeService.getEmployeesByDepartment(departmentId)) {
+				assertEquals(new BigDecimal("11500.00"), employee.getSalary(), "employee " + employee.getEmail());
+			}
+		}
+	}
+
+	@Test
+	void adjustmentRetriesEmployeesUpdatedAfterItsSnapshot() throws Exception {
+		Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Retry", "RETRY")).getId();
+		List<EmployeeDto> employees = new ArrayList<>();
+		for (int e = 0; e < 3; e++) {
+			employees.add(employeeService.createEmployee(new EmployeeDto(null, "Retry " + e, "retry" + e + "@test.com",
+					new BigDecimal("10000.00"), LocalDate.now().minusYears(1), departmentId, null)));
+		}
+		EmployeeDto edited = employees.get(1);
+		edited.setSalary(new BigDecimal("20000.00"));
+
+		// Another client saves an edit once the engine has started writing, after its first batch (of one
+		// employee) and before the batch holding the edited employee, so the edit's ledger row is newer
+		// than the start of the adjustment
+		Object engine = AopTestUtils.getTargetObject(salaryAdjustmentEngine);
+		Object batchSize = ReflectionTestUtils.getField(engine, "batchSize");
+		ReflectionTestUtils.setField(engine, "batchSize", 1);
+		ExecutorService otherClient = Executors.newSingleThreadExecutor();
+		AtomicBoolean editSaved = new AtomicBoolean();
+		SalaryAdjustmentProgress editMidRun = new SalaryAdjustmentProgress() {
+			@Override
+			public void started(int totalEmployees) {
+			}
+
+			@Override
+			public void processed(int processedEmployees) {
+				if (editSaved.compareAndSet(false, true)) {
+					try {
+						otherClient.submit(() -> employeeService.updateEmployee(edited.getId(), edited)).get(10, TimeUnit.SECONDS);
+					} catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}
+			}
+		};
+		int adjusted;
+		try {
+			adjusted = employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, 95), editMidRun);
+		} finally {
+			ReflectionTestUtils.setField(engine, "batchSize", batchSize);
+			otherClient.shutdown();
+		}
+
+		assertEquals(3, adjusted);
+		EmployeeDto reloaded = employeeService.getEmployeeById(edited.getId());
+		assertEquals(new BigDecimal("23000.00"), reloaded.getSalary());
+		assertEquals(2L, reloaded.getVersion());
+		assertEquals(new BigDecimal("11500.00"), employeeService.getEmployeeById(employees.get(0).getId()).getSalary());
+
+		// The retried ledger row supersedes the edit, so the history agrees with the employees table
+		assertEquals(new BigDecimal("23000.00"), salaryHistoryService.getEntryAsOf(edited.getId(), LocalDate.now())
+				.orElseThrow().getSalary());
+		assertEquals(0, new BigDecimal("46000.00").compareTo(
+				salaryHistoryService.getDepartmentPayrollAsOf(departmentId, LocalDate.now()).getTotalSalary()));
+	}
+}
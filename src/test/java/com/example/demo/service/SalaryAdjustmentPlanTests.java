@@ -0,0 +1,85 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The long-cents kernel must reproduce the BigDecimal computation it replaced exactly,
+// including scale, so results are compared with equals rather than compareTo.
+class SalaryAdjustmentPlanTests {
+
+	private static final LocalDate RUN_DATE = LocalDate.of(2026, 1, 1);
+	private static final int[] SCORES = { 0, 69, 70, 89, 90, 100 };
+
+	@Test
+	void matchesBigDecimalComputationForRandomSalaries() {
+		SplittableRandom random = new SplittableRandom(20260101L);
+		for (int score : SCORES) {
+			SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(score, RUN_DATE);
+			for (int i = 0; i < 20_000; i++) {
+				// Up to 99,999,999.99, well past the cap
+				assertMatchesReference(plan, score, BigDecimal.valueOf(random.nextLong(10_000_000_000L), 2));
+			}
+		}
+	}
+
+	@Test
+	void matchesBigDecimalComputationAroundTheCap() {
+		for (int score : SCORES) {
+			SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(score, RUN_DATE);
+			for (String multiplier : new String[] { "1.00", "1.05", "1.10", "1.15", "1.20" }) {
+				// Salaries whose adjusted value lands just below, on and just above MAX_SALARY
+				long capCents = SalaryAdjustmentPlan.MAX_SALARY_CENTS;
+				long boundary = BigDecimal.valueOf(capCents).divide(new BigDecimal(multiplier), 0, RoundingMode.DOWN).longValueExact();
+				for (long cents = boundary - 50; cents <= boundary + 50; cents++) {
+					assertMatchesReference(plan, score, BigDecimal.valueOf(cents, 2));
+				}
+			}
+		}
+	}
+
+	@Test
+	void roundsHalfUpLikeBigDecimal() {
+		SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(90, RUN_DATE);
+		// 0.10 * 1.15 = 0.115 and 0.30 * 1.15 = 0.345 sit exactly on the half-cent
+		for (String salary : new String[] { "0.10", "0.30", "0.01", "0.03", "0.07", "12345.70", "0.00" }) {
+			assertMatchesReference(plan, 90, new BigDecimal(salary));
+		}
+		assertEquals(-12L, SalaryCents.roundHalfUp(-115_000L));
+		assertEquals(-11L, SalaryCents.roundHalfUp(-114_999L));
+	}
+
+	@Test
+	void fallsBackToBigDecimalForSalariesBeyondTheKernel() {
+		SalaryAdjustmentPlan plan = SalaryAdjustmentPlan.forPerformanceScore(95, RUN_DATE);
+		// Sub-cent and oversized amounts never reach the kernel but must still round the same way
+		for (String salary : new String[] { "1000.005", "0.125", "75000", "5E+4", "75000.1000", "92233720368547758.07" }) {
+			assertMatchesReference(plan, 95, new BigDecimal(salary));
+		}
+		assertEquals(SalaryCents.NOT_REPRESENTABLE, SalaryCents.toCents(new BigDecimal("1000.005")));
+		assertEquals(7_500_010L, SalaryCents.toCents(new BigDecimal("75000.1000")));
+	}
+
+	private static void assertMatchesReference(SalaryAdjustmentPlan plan, int score, BigDecimal salary) {
+		assertEquals(reference(score, salary, false), plan.apply(salary, false), () -> "score " + score + ", salary " + salary);
+		assertEquals(reference(score, salary, true), plan.apply(salary, true), () -> "score " + score + ", salary " + salary + ", tenure");
+	}
+
+	// The original per-employee computation: percentage increase, tenure bonus, cap, then HALF_UP to cents
+	private static BigDecimal reference(int score, BigDecimal salary, boolean hasTenure) {
+		BigDecimal percentage = score >= 90 ? new BigDecimal("0.15") : score >= 70 ? new BigDecimal("0.10") : BigDecimal.ZERO;
+		BigDecimal newSalary = salary.add(salary.multiply(percentage));
+		if (hasTenure) {
+			newSalary = newSalary.add(salary.multiply(new BigDecimal("0.05")));
+		}
+		if (newSalary.compareTo(new BigDecimal("20000000")) > 0) {
+			newSalary = new BigDecimal("20000000");
+		}
+		return newSalary.setScale(2, RoundingMode.HALF_UP);
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SalaryAdjustmentStatsTrackerTests {
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void runningTotalsAreStoredWithEachAdjustment() {
+		int[] scores = { 95, 80, 50 };
+		for (int i = 0; i < scores.length; i++) {
+			Long departmentId = departmentService.createDepartment(new DepartmentDto(null, "Department " + i, "D" + i)).getId();
+			employeeService.createEmployee(new EmployeeDto(null, "Employee " + i, "employee" + i + "@test.com",
+					new BigDecimal("50000.00"), LocalDate.of(2024, 1, 1), departmentId, null));
+			employeeService.adjustSalary(new SalaryAdjustmentDto(departmentId, scores[i]));
+		}
+
+		Map<String, Object> running = employeeService.getSalaryAdjustmentStats();
+		assertEquals(3L, running.get("totalAdjustments"));
+		assertEquals(75.0, running.get("averagePerformanceScore"));
+		assertEquals(1L, running.get("highPerformanceAdjustments"));
+		assertEquals(1L, running.get("mediumPerformanceAdjustments"));
+		assertEquals(1L, running.get("lowPerformanceAdjustments"));
+
+		// The stored totals agree with a full scan of the history
+		Map<String, Object> scanned = jdbcTemplate.queryForMap("SELECT COUNT(*) AS adjustment_count, "
+				+ "SUM(performance_score) AS score_sum FROM salary_adjustments");
+		Map<String, Object> stored = jdbcTemplate.queryForMap("SELECT SUM(adjustment_count) AS adjustment_count, "
+				+ "SUM(score_sum) AS score_sum FROM salary_adjustment_stats");
+		assertEquals(((Number) scanned.get("adjustment_count")).longValue(), ((Number) stored.get("adjustment_count")).longValue());
+		assertEquals(((Number) scanned.get("score_sum")).longValue(), ((Number) stored.get("score_sum")).longValue());
+	}
+}
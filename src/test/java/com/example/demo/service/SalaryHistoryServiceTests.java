@@ -0,0 +1,100 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.DepartmentDto;
+import com.example.demo.dto.DepartmentPayrollDto;
+import com.example.demo.dto.EmployeeDto;
+import com.example.demo.dto.SalaryAdjustmentDto;
+import com.example.demo.dto.SalaryHistoryEntryDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class SalaryHistoryServiceTests {
+
+	@Autowired
+	private DepartmentService departmentService;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private SalaryHistoryService salaryHistoryService;
+
+	@Test
+	void recordsEverySalaryChangeOfAnEmployee() {
+		Long engineering = departmentService.createDepartment(new DepartmentDto(null, "Engineering", "ENG")).getId();
+		Long sales = departmentService.createDepartment(new DepartmentDto(null, "Sales", "SAL")).getId();
+		EmployeeDto employee = employeeService.createEmployee(new EmployeeDto(null, "Ayesha Khan", "ayesha@test.com",
+				new BigDecimal("50000.00"), LocalDate.of(2024, 1, 1), engineering, null));
+		Long id = employee.getId();
+
+		// A rename is not a salary change; a raise and a department move are
+		employee.setName("Ayesha K.");
+		employee = employeeService.updateEmployee(id, employee);
+		employee.setSalary(new BigDecimal("55000.00"));
+		employee = employeeService.updateEmployee(id, employee);
+		employeeService.adjustSalary(new SalaryAdjustmentDto(engineering, 95));
+		employee = employeeService.getEmployeeById(id);
+		employee.setDepartmentId(sales);
+		employeeService.updateEmployee(id, employee);
+		employeeService.deleteEmployee(id);
+
+		List<SalaryHistoryEntryDto> history = salaryHistoryService.getHistory(id);
+		assertEquals(List.of("HIRED", "UPDATED", "ADJUSTED", "UPDATED", "TERMINATED"),
+				history.stream().map(SalaryHistoryEntryDto::getChangeType).toList());
+		assertEquals(0, new BigDecimal("63250.00").compareTo(history.get(2).getSalary()));
+		assertEquals(sales, history.get(4).getDepartmentId());
+		assertEquals("TERMINATED", salaryHistoryService.getEntryAsOf(id, LocalDate.now()).orElseThrow().getChangeType());
+		assertTrue(salaryHistoryService.getEntryAsOf(id, LocalDate.now().minusDays(1)).isEmpty());
+	}
+
+	@Test
+	void reconstructsDepartmentPayrollAsOfPastDates() {
+		Long first = 9_001L;
+		Long second = 9_002L;
+		Long engineering = 1L;
+		Long sales = 2L;
+		record(SalaryHistoryService.ChangeType.HIRED, first, engineering, "1000.00", LocalDate.of(2024, 1, 10));
+		record(SalaryHistoryService.ChangeType.HIRED, second, engineering, "2000.00", LocalDate.of(2024, 3, 1));
+		record(SalaryHistoryService.ChangeType.UPDATED, first, engineering, "1500.00", LocalDate.of(2024, 6, 1));
+		record(SalaryHistoryService.ChangeType.UPDATED, second, sales, "2000.00", LocalDate.of(2024, 9, 1));
+		record(SalaryHistoryService.ChangeType.TERMINATED, first, engineering, "1500.00", LocalDate.of(2024, 12, 1));
+
+		assertPayroll(engineering, LocalDate.of(2024, 1, 9), 0, "0");
+		assertPayroll(engineering, LocalDate.of(2024, 2, 1), 1, "1000.00");
+		// Changes count from the start of their day, so a date includes its own changes
+		assertPayroll(engineering, LocalDate.of(2024, 3, 1), 2, "3000.00");
+		assertPayroll(engineering, LocalDate.of(2024, 7, 1), 2, "3500.00");
+		assertPayroll(engineering, LocalDate.of(2024, 10, 1), 1, "1500.00");
+		assertPayroll(sales, LocalDate.of(2024, 10, 1), 1, "2000.00");
+		assertPayroll(engineering, LocalDate.of(2025, 1, 1), 0, "0");
+
+		assertEquals(0, new BigDecimal("1000.00").compareTo(
+				salaryHistoryService.getEntryAsOf(first, LocalDate.of(2024, 5, 31)).orElseThrow().getSalary()));
+		assertEquals(0, new BigDecimal("1500.00").compareTo(
+				salaryHistoryService.getEntryAsOf(first, LocalDate.of(2024, 6, 1)).orElseThrow().getSalary()));
+	}
+
+	private void record(SalaryHistoryService.ChangeType type, Long employeeId, Long departmentId, String salary, LocalDate date) {
+		salaryHistoryService.recordAll(type, List.of(new SalaryChange(employeeId, departmentId, new BigDecimal(salary))),
+				date.atStartOfDay());
+	}
+
+	private void assertPayroll(Long departmentId, LocalDate date, long headcount, String total) {
+		DepartmentPayrollDto payroll = salaryHistoryService.getDepartmentPayrollAsOf(departmentId, date);
+		assertEquals(headcount, payroll.getHeadcount(), () -> "headcount on " + date);
+		assertEquals(0, new BigDecimal(total).compareTo(payroll.getTotalSalary()), () -> "payroll on " + date);
+	}
+}